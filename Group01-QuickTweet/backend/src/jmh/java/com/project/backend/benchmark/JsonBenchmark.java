@@ -0,0 +1,75 @@
+package com.project.backend.benchmark;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.backend.model.AppUser;
+import com.project.backend.model.Post;
+
+/**
+ * Serializes a user, a post and a page of posts the way the controllers return them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+  private static final int PAGE_SIZE = 20;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private AppUser user;
+  private Post post;
+  private List<Post> posts;
+
+  @Setup
+  public void setup() {
+    user = new AppUser("benchmark", "benchmark@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    user.setId(1L);
+    user.setBio("Benchmarking the serialization of users and posts.");
+    user.setStatus("Online");
+    user.setInterests(Set.of("music", "sports", "benchmarks"));
+
+    posts = new ArrayList<>();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      Post next = new Post("Post number " + i + " of the benchmark feed");
+      next.setId((long) i);
+      next.setCreateDate(new Timestamp(System.currentTimeMillis() - i * 60_000L));
+      next.setUser(user);
+      posts.add(next);
+    }
+    post = posts.get(0);
+  }
+
+  @Benchmark
+  public String serializeUser() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(user);
+  }
+
+  @Benchmark
+  public String serializePost() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(post);
+  }
+
+  @Benchmark
+  public String serializePosts() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(posts);
+  }
+}
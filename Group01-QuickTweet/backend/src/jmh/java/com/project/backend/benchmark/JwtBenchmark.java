@@ -0,0 +1,74 @@
+package com.project.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.project.backend.filter.JwtService;
+import com.project.backend.filter.SigningKeyRing;
+
+/**
+ * Issues tokens and resolves the user of a request, both for a token seen before and for one the
+ * service has to verify.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+  private JwtService jwtService;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setup() {
+    jwtService = new JwtService(new SigningKeyRing("", "", "", 0));
+    request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.AUTHORIZATION,
+        JwtService.PREFIX + " " + jwtService.getToken("benchmark"));
+  }
+
+  /**
+   * A request carrying a token for a new subject on every call, so the service never has it cached
+   * and checks its signature.
+   */
+  @State(Scope.Thread)
+  public static class FirstSeen {
+    final MockHttpServletRequest request = new MockHttpServletRequest();
+    private long subjects;
+
+    @Setup(Level.Invocation)
+    public void setup(JwtBenchmark benchmark) {
+      request.removeHeader(HttpHeaders.AUTHORIZATION);
+      request.addHeader(HttpHeaders.AUTHORIZATION,
+          JwtService.PREFIX + " " + benchmark.jwtService.getToken("benchmark" + subjects++));
+    }
+  }
+
+  @Benchmark
+  public String getToken() {
+    return jwtService.getToken("benchmark");
+  }
+
+  @Benchmark
+  public String getAuthUser() {
+    return jwtService.getAuthUser(request);
+  }
+
+  @Benchmark
+  public String getAuthUserFirstSeen(FirstSeen state) {
+    return jwtService.getAuthUser(state.request);
+  }
+}
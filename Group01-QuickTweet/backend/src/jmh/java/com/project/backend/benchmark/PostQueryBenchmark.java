@@ -0,0 +1,93 @@
+package com.project.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.backend.BackendApplication;
+import com.project.backend.model.AppUser;
+import com.project.backend.model.Post;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.PostService;
+import com.project.backend.service.UserService;
+
+/**
+ * Loads the posts of a user and their friends through {@code getPostByUsername}, against an
+ * in-memory H2 database seeded with {@code friends} friends who each wrote {@code posts} posts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostQueryBenchmark {
+  private static final String READER = "reader";
+
+  @Param({"10", "100"})
+  public int friends;
+
+  @Param({"20"})
+  public int posts;
+
+  private ConfigurableApplicationContext context;
+  private PostService postService;
+
+  @Setup
+  public void setup() {
+    // arguments take precedence over application.properties, which points at the shared database
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    context = new SpringApplicationBuilder(BackendApplication.class).run(
+        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.driver-class-name=org.h2.Driver", "--spring.datasource.username=sa",
+        "--spring.datasource.password=", "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--server.port=0", "--management.server.port=-1", "--quicktweet.password.strength=4",
+        "--spring.main.banner-mode=off", "--logging.level.root=warn");
+    postService = context.getBean(PostService.class);
+    UserRepository userRepository = context.getBean(UserRepository.class);
+    UserService userService = context.getBean(UserService.class);
+
+    new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(
+        status -> {
+          userRepository.save(user(READER));
+          for (int f = 0; f < friends; f++) {
+            String friend = "friend" + f;
+            userRepository.save(user(friend));
+            userService.addFriend(READER, friend);
+            for (int p = 0; p < posts; p++) {
+              postService.createPost(friend, new Post("Post " + p + " by " + friend));
+            }
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Post> getPostByUsername() {
+    return postService.getPostByUsername(READER);
+  }
+
+  private static AppUser user(String username) {
+    return new AppUser(username, username + "@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+  }
+}
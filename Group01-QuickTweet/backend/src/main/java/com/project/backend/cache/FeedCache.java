@@ -0,0 +1,235 @@
+package com.project.backend.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.backend.model.FeedPage;
+import com.project.backend.model.PostView;
+
+/**
+ * Caches the newest {@code entries} posts of each user's feed, keyed by user id. Eviction is
+ * size-bounded on the total number of cached posts (W-TinyLFU), so the memory used stays under a
+ * fixed ceiling no matter how many users refresh their feed.
+ *
+ * <p>
+ * Writes patch the cached feeds they affect instead of dropping them. A patch is applied as soon
+ * as it is made, so the writing transaction reads its own changes, and once more after commit,
+ * which also bumps the version seen by concurrent loaders so they cannot store a feed read before
+ * the commit. If the transaction rolls back the affected feeds are invalidated.
+ */
+@Component
+public class FeedCache {
+  private static final Comparator<PostView> NEWEST_FIRST =
+      Comparator.comparing(PostView::createDate).thenComparing(PostView::id).reversed();
+  private static final int VERSION_STRIPES = 1024;
+
+  private final Cache<Long, CachedFeed> cache;
+  private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+  private final int entries;
+
+  /**
+   * The newest posts of a feed. {@code complete} is set when the feed has no posts beyond these.
+   */
+  record CachedFeed(List<PostView> posts, boolean complete) {
+  }
+
+  public FeedCache(@Value("${quicktweet.feed-cache.entries:50}") int entries,
+      @Value("${quicktweet.feed-cache.max-posts:20000}") long maxPosts,
+      @Value("${quicktweet.feed-cache.ttl-seconds:60}") long ttlSeconds) {
+    this.entries = entries;
+    this.cache = Caffeine.newBuilder().maximumWeight(maxPosts)
+        .weigher((Long ownerId, CachedFeed feed) -> feed.posts().size() + 1)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds)).recordStats().build();
+  }
+
+  public int getEntries() {
+    return entries;
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * Returns the version a loader must pass to {@link #put} for the feed it is about to read.
+   */
+  public long version(Long ownerId) {
+    return versions.get(stripe(ownerId));
+  }
+
+  /**
+   * Serves the first page of a feed from the cache.
+   * 
+   * @param ownerId The owner of the feed.
+   * @param pageSize The number of posts per page.
+   * @return The first page, or null if it is not cached.
+   */
+  public FeedPage getFirstPage(Long ownerId, int pageSize) {
+    CachedFeed feed = cache.getIfPresent(ownerId);
+    if (feed == null || (feed.posts().size() <= pageSize && !feed.complete())) {
+      return null;
+    }
+    return FeedPage.of(feed.posts(), pageSize);
+  }
+
+  /**
+   * Stores the newest posts of a feed, unless it was written to since {@code version} was read.
+   * The posts are dropped again if the surrounding transaction rolls back.
+   * 
+   * @param ownerId The owner of the feed.
+   * @param newest Up to entries + 1 posts, newest first.
+   * @param version The version returned by {@link #version} before the posts were read.
+   */
+  public void put(Long ownerId, List<PostView> newest, long version) {
+    boolean complete = newest.size() <= entries;
+    CachedFeed feed =
+        new CachedFeed(List.copyOf(complete ? newest : newest.subList(0, entries)), complete);
+    cache.asMap().compute(ownerId,
+        (key, current) -> version(ownerId) == version ? feed : current);
+
+    // a feed read inside a transaction may include that transaction's own writes
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            apply(List.of(ownerId), cached -> null);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Adds a post to the cached feeds of its author and of the given friends.
+   *
+   * @param post The new post.
+   * @param friendIds The ids of the friends whose feeds show it, in ascending order.
+   */
+  public void addPost(PostView post, long[] friendIds) {
+    patchAudience(post.user().id(), friendIds, feed -> {
+      if (feed.posts().stream().anyMatch(cached -> cached.id().equals(post.id()))) {
+        return feed;
+      }
+
+      List<PostView> posts = new ArrayList<>(feed.posts());
+      posts.add(post);
+      posts.sort(NEWEST_FIRST);
+      if (posts.size() > entries) {
+        return new CachedFeed(List.copyOf(posts.subList(0, entries)), false);
+      }
+      return new CachedFeed(List.copyOf(posts), feed.complete());
+    });
+  }
+
+  public void updatePost(PostView post, long[] friendIds) {
+    patchAudience(post.user().id(), friendIds, feed -> new CachedFeed(feed.posts().stream()
+        .map(cached -> cached.id().equals(post.id()) ? post : cached).toList(), feed.complete()));
+  }
+
+  public void removePost(Long postId, Long authorId, long[] friendIds) {
+    patchAudience(authorId, friendIds, feed -> new CachedFeed(
+        feed.posts().stream().filter(cached -> !cached.id().equals(postId)).toList(),
+        feed.complete()));
+  }
+
+  public void invalidate(Collection<Long> ownerIds) {
+    List<Long> affected = List.copyOf(ownerIds);
+    apply(affected, feed -> null);
+    afterTransaction(() -> apply(affected, feed -> null));
+  }
+
+  /**
+   * Drops every cached feed that shows a post by the given author, for example after the author's
+   * profile picture changed.
+   */
+  public void invalidateAuthor(Long authorId) {
+    Set<Long> ownerIds = cache.asMap().entrySet().stream()
+        .filter(entry -> entry.getValue().posts().stream()
+            .anyMatch(post -> post.user().id().equals(authorId)))
+        .map(entry -> entry.getKey()).collect(Collectors.toSet());
+    invalidate(ownerIds);
+  }
+
+  private void patchAudience(Long authorId, long[] friendIds, UnaryOperator<CachedFeed> change) {
+    applyToAudience(authorId, friendIds, change);
+    afterTransaction(() -> applyToAudience(authorId, friendIds, change),
+        () -> applyToAudience(authorId, friendIds, feed -> null));
+  }
+
+  private void afterTransaction(Runnable onCommit) {
+    afterTransaction(onCommit, onCommit);
+  }
+
+  private void afterTransaction(Runnable onCommit, Runnable onRollback) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          onCommit.run();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            onRollback.run();
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Applies a change to the cached feeds among an author and their friends. Whichever of the
+   * friends and the cached feeds is smaller is walked and looked up in the other, so a popular
+   * author costs no more than the size of the cache. The versions of feeds that are not cached
+   * are bumped as well, in case they are being loaded.
+   */
+  private void applyToAudience(Long authorId, long[] friendIds, UnaryOperator<CachedFeed> change) {
+    if (friendIds.length >= VERSION_STRIPES) {
+      for (int i = 0; i < VERSION_STRIPES; i++) {
+        versions.incrementAndGet(i);
+      }
+    } else {
+      for (long friendId : friendIds) {
+        versions.incrementAndGet(stripe(friendId));
+      }
+    }
+
+    List<Long> cached = new ArrayList<>();
+    cached.add(authorId);
+    if (friendIds.length <= cache.estimatedSize()) {
+      Arrays.stream(friendIds).filter(cache.asMap()::containsKey).forEach(cached::add);
+    } else {
+      cache.asMap().keySet().stream()
+          .filter(ownerId -> Arrays.binarySearch(friendIds, ownerId) >= 0).forEach(cached::add);
+    }
+    apply(cached, change);
+  }
+
+  private void apply(Collection<Long> ownerIds, UnaryOperator<CachedFeed> change) {
+    for (Long ownerId : ownerIds) {
+      versions.incrementAndGet(stripe(ownerId));
+      cache.asMap().computeIfPresent(ownerId, (key, feed) -> change.apply(feed));
+    }
+  }
+
+  private static int stripe(long ownerId) {
+    return Math.floorMod(Long.hashCode(ownerId), VERSION_STRIPES);
+  }
+}
@@ -0,0 +1,91 @@
+package com.project.backend.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.backend.model.CachedUser;
+import com.project.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache from username to {@link CachedUser}, for the many requests that only need to
+ * know who a username belongs to. Unknown usernames are not cached.
+ *
+ * <p>
+ * Only the id, role, status and pending flag are cached, so only writes to those need to call
+ * {@link #invalidate}. An invalidation drops the entry straight away and once more when the
+ * surrounding transaction completes, so a concurrent read of the old row cannot outlive the write.
+ * Users loaded inside a transaction that rolls back are dropped as well.
+ */
+@Component
+public class UserCache implements MeterBinder {
+  private final UserRepository userRepository;
+  private final Cache<String, CachedUser> cache;
+
+  public UserCache(UserRepository userRepository,
+      @Value("${quicktweet.user-cache.size:10000}") long size,
+      @Value("${quicktweet.user-cache.ttl-seconds:300}") long ttlSeconds) {
+    this.userRepository = userRepository;
+    this.cache = Caffeine.newBuilder().maximumSize(size)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds)).recordStats().build();
+  }
+
+  /**
+   * Retrieves a user by username, from the cache or else from the database.
+   *
+   * @param username - The username to resolve
+   * @return The user, or empty if no user has that username
+   */
+  public Optional<CachedUser> get(String username) {
+    return Optional.ofNullable(cache.get(username, this::load));
+  }
+
+  public void invalidate(String username) {
+    cache.invalidate(username);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          cache.invalidate(username);
+        }
+      });
+    }
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, "users.by-username");
+  }
+
+  private CachedUser load(String username) {
+    CachedUser user = userRepository.findCachedByUsername(username).orElse(null);
+
+    // a user read inside a transaction may be that transaction's own write
+    if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            cache.invalidate(username);
+          }
+        }
+      });
+    }
+    return user;
+  }
+}
@@ -0,0 +1,108 @@
+package com.project.backend.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt encoder whose cost is picked at startup. Unless a fixed strength is configured, the host
+ * is benchmarked at {@code minStrength} and the highest cost up to {@code maxStrength} whose hash
+ * stays within {@code targetMillis} is used; each step up doubles the work.
+ *
+ * <p>
+ * Hashes of any cost still match. {@link #upgradeEncoding} reports hashes below this node's
+ * strength, so they are rehashed at that strength on the next successful login. Hashes are only
+ * ever upgraded, never downgraded, so nodes that picked different costs cannot rehash each
+ * other's passwords back and forth. Encode and match times are exported as the
+ * {@code password.encode} and {@code password.matches} histograms.
+ */
+@Component
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+  private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+  private static final Pattern BCRYPT_PREFIX = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+  private static final int BENCHMARK_ROUNDS = 3;
+
+  private final int strength;
+  private final BCryptPasswordEncoder delegate;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+
+  public AdaptivePasswordEncoder(@Value("${quicktweet.password.strength:0}") int strength,
+      @Value("${quicktweet.password.target-ms:250}") long targetMillis,
+      @Value("${quicktweet.password.min-strength:10}") int minStrength,
+      @Value("${quicktweet.password.max-strength:14}") int maxStrength, MeterRegistry registry) {
+    this.strength = strength > 0 ? strength : benchmark(minStrength, maxStrength, targetMillis);
+    this.delegate = new BCryptPasswordEncoder(this.strength);
+
+    this.encodeTimer =
+        Timer.builder("password.encode").publishPercentileHistogram().register(registry);
+    this.matchesTimer =
+        Timer.builder("password.matches").publishPercentileHistogram().register(registry);
+    Gauge.builder("password.strength", this, AdaptivePasswordEncoder::getStrength)
+        .register(registry);
+  }
+
+  public int getStrength() {
+    return strength;
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return encodeTimer.record(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Reports whether a hash was made with a lower cost than this node's strength. Hashes that are
+   * not BCrypt are left alone, since they would not match anyway.
+   */
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    if (encodedPassword == null) {
+      return false;
+    }
+
+    Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+  }
+
+  /**
+   * Times hashes at the lowest strength and extrapolates to the highest one within the target.
+   */
+  static int benchmark(int minStrength, int maxStrength, long targetMillis) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+    encoder.encode("warmup");
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+      long start = System.nanoTime();
+      encoder.encode("benchmark");
+      best = Math.min(best, System.nanoTime() - start);
+    }
+
+    long budget = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+    int strength = minStrength;
+    while (strength < maxStrength && best * 2 <= budget) {
+      best *= 2;
+      strength++;
+    }
+
+    logger.info("Using BCrypt strength {}, about {} ms per hash", strength,
+        TimeUnit.NANOSECONDS.toMillis(best));
+    return strength;
+  }
+}
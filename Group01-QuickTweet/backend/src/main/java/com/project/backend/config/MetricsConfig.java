@@ -0,0 +1,47 @@
+package com.project.backend.config;
+
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.project.backend.listener.QueryCountInspector;
+import com.project.backend.listener.QueryLog;
+import com.project.backend.listener.TimedDataSource;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Times the methods of classes annotated with {@code @Timed}, lets Hibernate count the statements
+ * of each request and times every statement for the query log.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry registry) {
+    return new TimedAspect(registry);
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer queryCountCustomizer() {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+        new QueryCountInspector());
+  }
+
+  @Bean
+  public static BeanPostProcessor timedDataSourcePostProcessor(ObjectProvider<QueryLog> queryLog) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof TimedDataSource) {
+          return bean;
+        }
+        return new TimedDataSource(dataSource, queryLog.getObject());
+      }
+    };
+  }
+}
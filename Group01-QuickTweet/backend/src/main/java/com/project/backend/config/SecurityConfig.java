@@ -2,16 +2,15 @@ package com.project.backend.config;
 
 import java.util.Arrays;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -26,35 +25,26 @@ import com.project.backend.filter.AuthenticationFilter;
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig implements SecurityConfigInterface {
-  private final UserDetailsServiceImpl userDetailsService;
   private final AuthenticationFilter authenticationFilter;
   private final AuthEntryPoint exceptionHandler;
+  private final AdaptivePasswordEncoder passwordEncoder;
 
-  public SecurityConfig(UserDetailsServiceImpl userDetailsServiceImpl,
-      AuthenticationFilter authenticationFilter, AuthEntryPoint exceptionHandler) {
-    this.userDetailsService = userDetailsServiceImpl;
+  public SecurityConfig(AuthenticationFilter authenticationFilter, AuthEntryPoint exceptionHandler,
+      AdaptivePasswordEncoder passwordEncoder) {
     this.authenticationFilter = authenticationFilter;
     this.exceptionHandler = exceptionHandler;
+    this.passwordEncoder = passwordEncoder;
   }
 
   /**
-   * This method is used to configure the global security settings.
-   * 
-   * @param auth - The authentication manager builder
-   * @throws Exception
-   */
-  public void configureGlobal(AuthenticationManagerBuilder auth) throws Exception {
-    auth.userDetailsService(userDetailsService).passwordEncoder(new BCryptPasswordEncoder());
-  }
-
-  /**
-   * This method is used to create a password encoder.
+   * This method is used to get the password encoder. There is a single instance, whose strength is
+   * chosen at startup. Spring Security wires it into the authentication manager together with
+   * {@link UserDetailsServiceImpl}, which also stores rehashed passwords.
    * 
    * @return - The password encoder
    */
-  @Bean
   public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+    return passwordEncoder;
   }
 
   /**
@@ -87,6 +77,8 @@ public class SecurityConfig implements SecurityConfigInterface {
             .requestMatchers(HttpMethod.POST, "/users").permitAll()
             .requestMatchers(HttpMethod.GET, "/users/forgotPassword/{username}").permitAll()
             .requestMatchers(HttpMethod.POST, "/users/forgotPassword/{username}").permitAll()
+            // only served on the management port, which listens on localhost
+            .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
             .anyRequest().authenticated())
         .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class)
         .exceptionHandling(
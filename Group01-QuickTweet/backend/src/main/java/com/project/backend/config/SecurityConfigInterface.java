@@ -1,7 +1,6 @@
 package com.project.backend.config;
 
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -9,8 +8,6 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 public interface SecurityConfigInterface {
-  public void configureGlobal(AuthenticationManagerBuilder auth) throws Exception;
-
   public PasswordEncoder passwordEncoder();
 
   public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig)
@@ -1,37 +1,78 @@
 package com.project.backend.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.userdetails.User.UserBuilder;
 import org.springframework.stereotype.Service;
 
-import com.project.backend.model.AppUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.model.UserCredentials;
 import com.project.backend.repository.UserRepository;
 
+/**
+ * Loads the credentials checked at login with a single query on the username. Accounts that are
+ * still pending are returned disabled, so the login is refused before the password is hashed.
+ *
+ * <p>
+ * Usernames that do not exist are remembered for a few seconds, so repeated attempts with an
+ * unknown username do not reach the database. A new account is created pending and cannot log in
+ * before it is approved, so it is never held back by a stale entry.
+ */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl
+    implements UserDetailsService, UserDetailsPasswordService {
   private final UserRepository repository;
+  private final Cache<String, Boolean> unknownUsernames;
 
-  public UserDetailsServiceImpl(UserRepository repository) {
+  public UserDetailsServiceImpl(UserRepository repository,
+      @Value("${quicktweet.login.unknown-user-cache-size:10000}") long cacheSize,
+      @Value("${quicktweet.login.unknown-user-ttl-seconds:5}") long ttlSeconds) {
     this.repository = repository;
+    this.unknownUsernames = Caffeine.newBuilder().maximumSize(cacheSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds)).build();
   }
 
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    Optional<AppUser> userOpt = repository.findByUsername(username);
+    if (unknownUsernames.getIfPresent(username) != null) {
+      throw new UsernameNotFoundException("User not found");
+    }
+
+    Optional<UserCredentials> userOpt = repository.findCredentialsByUsername(username);
     UserBuilder builder = null;
     if (userOpt.isPresent()) {
-      AppUser user = userOpt.get();
+      UserCredentials user = userOpt.get();
       builder = org.springframework.security.core.userdetails.User.withUsername(username);
-      builder.password(user.getPassword());
-      builder.roles(user.getRole());
+      builder.password(user.password());
+      builder.roles(user.role());
+      builder.disabled(user.pendingRequest());
     } else {
+      unknownUsernames.put(username, Boolean.TRUE);
       throw new UsernameNotFoundException("User not found");
     }
 
     return builder.build();
   }
+
+  /**
+   * Stores a password rehashed after a successful login, because its hash used a lower strength
+   * than the current one.
+   */
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    repository.findByUsername(user.getUsername()).ifPresent(appUser -> {
+      appUser.setPassword(newPassword);
+      repository.save(appUser);
+    });
+
+    return org.springframework.security.core.userdetails.User.withUserDetails(user)
+        .password(newPassword).build();
+  }
 }
@@ -1,13 +1,19 @@
 package com.project.backend.controller;
 
-import java.util.Set;
+import java.util.List;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import com.project.backend.model.AppUser;
+import com.project.backend.model.RequestBatch;
+import com.project.backend.model.RequestDecision;
+import com.project.backend.model.UserPage;
 import com.project.backend.service.implementation.AppAuthorizationServiceImpl;
 
 @RestController
@@ -18,9 +24,38 @@ public class AppAuthorizationController {
     this.appAuthorizationService = appAuthorizationService;
   }
 
+  /**
+   * Retrieves one page of the account requests waiting for approval, oldest first.
+   * 
+   * @param username The username of the admin making the request.
+   * @param page The zero based page number.
+   * @param size The number of requests per page, at most 100.
+   * @return The page of pending users.
+   */
   @GetMapping("/admin/requests/{username}")
-  public Set<AppUser> getPendingRequests(@PathVariable("username") String username) {
-    return appAuthorizationService.getPendingRequests(username);
+  public UserPage getPendingRequests(@PathVariable("username") String username,
+      @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+    return appAuthorizationService.getPendingRequests(username, page, size);
+  }
+
+  /**
+   * Approves and rejects many account requests at once.
+   * 
+   * @param username The username of the admin making the request.
+   * @param batch The usernames to approve and to reject.
+   * @return The outcome for every username, FORBIDDEN if the user is not an admin, or BAD_REQUEST
+   *         if the batch is empty, too large, or names a user in both sets.
+   */
+  @PostMapping("/admin/requests/{username}/decisions")
+  public ResponseEntity<List<RequestDecision>> decidePendingRequests(
+      @PathVariable("username") String username, @RequestBody RequestBatch batch) {
+    try {
+      return ResponseEntity.ok(appAuthorizationService.decidePendingRequests(username, batch));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (IllegalArgumentException err) {
+      return ResponseEntity.badRequest().build();
+    }
   }
 
   @PutMapping("/admin/requests/{username}")
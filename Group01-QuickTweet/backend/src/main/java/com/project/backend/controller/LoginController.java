@@ -4,50 +4,55 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import com.project.backend.error.LoginRejectedException;
 import com.project.backend.filter.JwtService;
+import com.project.backend.filter.LoginExecutor;
 import com.project.backend.model.AccountCredentials;
-import com.project.backend.model.AppUser;
-import com.project.backend.repository.UserRepository;
 
 @RestController
 public class LoginController {
   private final JwtService jwtService;
   private final AuthenticationManager authenticationManager;
-  private final UserRepository userRepository;
+  private final LoginExecutor loginExecutor;
 
   public LoginController(JwtService jwtService, AuthenticationManager authenticationManager,
-      UserRepository userRepository) {
+      LoginExecutor loginExecutor) {
     this.jwtService = jwtService;
     this.authenticationManager = authenticationManager;
-    this.userRepository = userRepository;
+    this.loginExecutor = loginExecutor;
   }
 
   /**
-   * This method is used to authenticate the user and return a JWT token.
+   * This method is used to authenticate the user and return a JWT token. The password is checked
+   * on the login executor; when it is saturated the request is answered with 503 and a Retry-After
+   * header. The user is read once, by the authentication manager; accounts that are still pending
+   * are refused with 403 before their password is checked.
    * 
    * @param credentials - The user credentials
    * @return - JWT token
-   * @throws Exception - If the user does not exist
+   * @throws Exception - If the user does not exist or the password is wrong
    */
   @PostMapping("/login")
   public ResponseEntity<?> getToken(@RequestBody AccountCredentials credentials) throws Exception {
-    AppUser user = userRepository.findByUsername(credentials.username())
-        .orElseThrow(() -> new UsernameNotFoundException("User does not exist"));
-
-    if (user.isPendingRequest()) {
+    UsernamePasswordAuthenticationToken creds =
+        new UsernamePasswordAuthenticationToken(credentials.username(), credentials.password());
+    Authentication auth;
+    try {
+      auth = loginExecutor.authenticate(() -> authenticationManager.authenticate(creds));
+    } catch (LoginRejectedException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+          .body(e.getMessage());
+    } catch (DisabledException e) {
       return ResponseEntity.status(HttpStatus.FORBIDDEN)
           .body("User account creation request is pending.");
     }
-
-    UsernamePasswordAuthenticationToken creds =
-        new UsernamePasswordAuthenticationToken(credentials.username(), credentials.password());
-    Authentication auth = authenticationManager.authenticate(creds);
     String jwts = jwtService.getToken(auth.getName());
     return ResponseEntity.ok().header(HttpHeaders.AUTHORIZATION, "Bearer " + jwts)
         .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Authorization").build();
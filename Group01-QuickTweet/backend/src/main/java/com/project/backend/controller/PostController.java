@@ -2,6 +2,7 @@ package com.project.backend.controller;
 
 import java.util.List;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,7 +12,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.project.backend.model.FeedPage;
 import com.project.backend.model.Post;
+import com.project.backend.model.PostView;
 import com.project.backend.service.PostService;
 
 @RestController
@@ -55,6 +58,48 @@ public class PostController {
     return postService.getPostByUsername(username);
   }
 
+  /**
+   * This method is used to get one page of a user's feed, newest posts first.
+   * 
+   * @param username - The username of the user
+   * @param cursor - The cursor returned with the previous page, or empty for the first page
+   * @param size - The number of posts per page
+   * @return - The feed page, or a bad request if the cursor is invalid
+   */
+  @GetMapping("/posts/{username}/feed")
+  public ResponseEntity<FeedPage> getFeed(@PathVariable("username") String username,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "5") int size) {
+    try {
+      return ResponseEntity.ok(postService.getFeed(username, cursor, size));
+    } catch (IllegalArgumentException err) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  /**
+   * This method is used to search the posts in a user's feed.
+   * 
+   * @param username - The username of the user
+   * @param q - The words the posts have to contain, each one matching the start of a word
+   * @param user - Only include authors whose username contains this
+   * @param interest - Only include authors with an interest containing this
+   * @param limit - The maximum number of posts to return
+   * @return - The matching posts, newest first
+   */
+  @GetMapping("/posts/{username}/search")
+  public ResponseEntity<List<PostView>> searchFeed(@PathVariable("username") String username,
+      @RequestParam(defaultValue = "") String q,
+      @RequestParam(required = false) String user,
+      @RequestParam(required = false) String interest,
+      @RequestParam(defaultValue = "20") int limit) {
+    List<PostView> posts = postService.searchFeed(username, q, user, interest, limit);
+    if (posts == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(posts);
+  }
+
   /**
    * This method is used to update a post.
    * 
@@ -0,0 +1,87 @@
+package com.project.backend.controller;
+
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.backend.model.PurgeProgress;
+import com.project.backend.service.PurgeService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@RestController
+public class PurgeController {
+  private final PurgeService purgeService;
+
+  public PurgeController(PurgeService purgeService) {
+    this.purgeService = purgeService;
+  }
+
+  /**
+   * Starts deleting a batch of accounts in the background.
+   * 
+   * @param username The username of the admin making the request.
+   * @param userIds The ids of the accounts to delete. The admin's own id is ignored.
+   * @return ACCEPTED with the new job, FORBIDDEN if the user is not an admin, or BAD_REQUEST if
+   *         there is nothing to delete or too much at once.
+   */
+  @PostMapping("/admin/purge/{username}")
+  public ResponseEntity<PurgeProgress> startPurge(@PathVariable("username") String username,
+      @RequestBody Set<Long> userIds) {
+    try {
+      return ResponseEntity.status(HttpStatus.ACCEPTED)
+          .body(purgeService.startPurge(username, userIds));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (IllegalArgumentException err) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  /**
+   * Retrieves the progress of a purge job.
+   * 
+   * @param username The username of the admin making the request.
+   * @param id The id of the job.
+   * @return The job's progress, FORBIDDEN if the user is not an admin, or NOT_FOUND.
+   */
+  @GetMapping("/admin/purge/{username}/{id}")
+  public ResponseEntity<PurgeProgress> getProgress(@PathVariable("username") String username,
+      @PathVariable("id") Long id) {
+    try {
+      return ResponseEntity.ok(purgeService.getProgress(username, id));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (EntityNotFoundException err) {
+      return ResponseEntity.notFound().build();
+    }
+  }
+
+  /**
+   * Resumes a purge job that stopped on an error, starting with the accounts it had not reached.
+   * 
+   * @param username The username of the admin making the request.
+   * @param id The id of the job.
+   * @return The job's progress, FORBIDDEN if the user is not an admin, NOT_FOUND, or CONFLICT if
+   *         the job has not failed.
+   */
+  @PutMapping("/admin/purge/{username}/{id}")
+  public ResponseEntity<PurgeProgress> resumePurge(@PathVariable("username") String username,
+      @PathVariable("id") Long id) {
+    try {
+      return ResponseEntity.ok(purgeService.resumePurge(username, id));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (EntityNotFoundException err) {
+      return ResponseEntity.notFound().build();
+    } catch (IllegalStateException err) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+  }
+}
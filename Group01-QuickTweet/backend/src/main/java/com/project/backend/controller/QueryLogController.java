@@ -0,0 +1,44 @@
+package com.project.backend.controller;
+
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.backend.model.QueryShape;
+import com.project.backend.service.QueryLogService;
+
+@RestController
+public class QueryLogController {
+  private final QueryLogService queryLogService;
+
+  public QueryLogController(QueryLogService queryLogService) {
+    this.queryLogService = queryLogService;
+  }
+
+  /**
+   * Retrieves the query shapes the application has spent the most time in since it started.
+   * 
+   * @param username The username of the admin making the request.
+   * @param limit The number of shapes to return, at most 100.
+   * @param sort Whether to rank the shapes by total, mean or max time, or by count.
+   * @return The slowest query shapes, FORBIDDEN if the user is not an admin, or BAD_REQUEST if the
+   *         sort is not supported.
+   */
+  @GetMapping("/admin/queries/{username}")
+  public ResponseEntity<List<QueryShape>> getSlowestQueries(
+      @PathVariable("username") String username,
+      @RequestParam(name = "limit", defaultValue = "10") int limit,
+      @RequestParam(name = "sort", defaultValue = "total") String sort) {
+    try {
+      return ResponseEntity.ok(queryLogService.getSlowestQueries(username, limit, sort));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (IllegalArgumentException err) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.project.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.backend.model.FriendRecommendation;
+import com.project.backend.service.RecommendationService;
+
+@RestController
+public class RecommendationController {
+  private final RecommendationService recommendationService;
+
+  public RecommendationController(RecommendationService recommendationService) {
+    this.recommendationService = recommendationService;
+  }
+
+  /**
+   * Retrieves the users recommended as friends for a user, best match first.
+   * 
+   * @param username The username of the user
+   * @param limit The maximum number of recommendations to return
+   * @return A list of recommendations with their scores, or not found if the user does not exist
+   */
+  @GetMapping("/users/{username}/recommendations")
+  public ResponseEntity<List<FriendRecommendation>> getRecommendations(
+      @PathVariable("username") String username, @RequestParam(defaultValue = "3") int limit) {
+    try {
+      return ResponseEntity.ok(recommendationService.getRecommendations(username, limit));
+    } catch (UsernameNotFoundException err) {
+      return ResponseEntity.notFound().build();
+    }
+  }
+}
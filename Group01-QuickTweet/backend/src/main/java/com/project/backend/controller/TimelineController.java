@@ -0,0 +1,56 @@
+package com.project.backend.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.backend.model.TimelineStats;
+import com.project.backend.service.TimelineService;
+
+@RestController
+public class TimelineController {
+  private final TimelineService timelineService;
+
+  public TimelineController(TimelineService timelineService) {
+    this.timelineService = timelineService;
+  }
+
+  /**
+   * Retrieves the fan-out threshold and counters of the timeline service.
+   * 
+   * @param username The username of the admin making the request.
+   * @return The timeline statistics, or FORBIDDEN if the user is not an admin.
+   */
+  @GetMapping("/admin/timeline/{username}")
+  public ResponseEntity<TimelineStats> getStats(@PathVariable("username") String username) {
+    try {
+      return ResponseEntity.ok(timelineService.getStats(username));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+  }
+
+  /**
+   * Changes the friend count above which an author's posts are pulled at read time instead of
+   * being pushed to every friend's timeline.
+   * 
+   * @param username The username of the admin making the request.
+   * @param threshold The new threshold.
+   * @return The timeline statistics after the change.
+   */
+  @PutMapping("/admin/timeline/{username}")
+  public ResponseEntity<TimelineStats> updateCelebrityThreshold(
+      @PathVariable("username") String username, @RequestBody Integer threshold) {
+    try {
+      return ResponseEntity.ok(timelineService.updateCelebrityThreshold(username, threshold));
+    } catch (SecurityException err) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    } catch (IllegalArgumentException err) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+}
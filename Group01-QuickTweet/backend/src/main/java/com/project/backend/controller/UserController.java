@@ -8,8 +8,11 @@ import jakarta.persistence.EntityExistsException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.backend.model.AppUser;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserPage;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.http.HttpStatus;
@@ -32,13 +35,23 @@ public class UserController {
   }
 
   /**
-   * Retrieves all users.
+   * Retrieves one page of the approved users.
    * 
-   * @return A list of all users.
+   * @param page The zero based page number.
+   * @param size The number of users per page, at most 100.
+   * @param sort The property to sort by (id, username, email or role), optionally followed by
+   *        ",desc".
+   * @return The page of users, or a bad request if the sort is not supported.
    */
   @GetMapping("/users")
-  public List<AppUser> getAllUsers() {
-    return userService.getAllUsers();
+  public ResponseEntity<UserPage> getAllUsers(@RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "id") String sort) {
+    try {
+      return ResponseEntity.ok(userService.getAllUsers(page, size, sort));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
   }
 
   /**
@@ -266,10 +279,10 @@ public class UserController {
    * with the specified user.
    * 
    * @param username The username of the user whose friends are being retrieved.
-   * @return A set of AppUser objects representing the user's friends.
+   * @return The user's friends, sorted by username.
    */
   @GetMapping("/users/friends/{username}")
-  public Set<AppUser> getFriends(@PathVariable("username") String username) {
+  public List<UserCard> getFriends(@PathVariable("username") String username) {
     return userService.getFriends(username);
   }
 
@@ -298,23 +311,80 @@ public class UserController {
    * interests that match the given set of interests.
    * 
    * @param interests A set of strings representing the interests to match against.
-   * @return A list of AppUser objects representing the users with matching interests.
+   * @return The users with matching interests.
    */
   @PostMapping("/users/interests")
-  public List<AppUser> getUsersByInterests(@RequestBody Set<String> interests) {
+  public List<UserCard> getUsersByInterests(@RequestBody Set<String> interests) {
     return userService.getUserByInterests(interests);
   }
 
+  /**
+   * Retrieves users by a combination of interests.
+   * 
+   * @param all Interests the users must all have
+   * @param any Interests the users must have at least one of
+   * @param none Interests the users must not have
+   * @param limit The maximum number of users to return
+   * @return A list of users matching every condition given, empty without any all or any interests
+   */
+  @GetMapping("/users/interests/search")
+  public List<UserCard> queryInterests(@RequestParam(defaultValue = "") Set<String> all,
+      @RequestParam(defaultValue = "") Set<String> any,
+      @RequestParam(defaultValue = "") Set<String> none,
+      @RequestParam(defaultValue = "50") int limit) {
+    return userService.queryInterests(all, any, none, limit);
+  }
+
+  /**
+   * Counts the users matching a combination of interests, without loading them.
+   * 
+   * @param all Interests the users must all have
+   * @param any Interests the users must have at least one of
+   * @param none Interests the users must not have
+   * @return The number of users matching every condition given
+   */
+  @GetMapping("/users/interests/count")
+  public long countByInterests(@RequestParam(defaultValue = "") Set<String> all,
+      @RequestParam(defaultValue = "") Set<String> any,
+      @RequestParam(defaultValue = "") Set<String> none) {
+    return userService.countByInterests(all, any, none);
+  }
+
+  /**
+   * Retrieves the number of users with each interest.
+   * 
+   * @return A map from each interest to its number of users
+   */
+  @GetMapping("/users/interests/counts")
+  public Map<String, Integer> getInterestCounts() {
+    return userService.getInterestCounts();
+  }
+
   /**
    * Retrieves users by their username query.
    * 
    * @param query The query to search for
-   * @return A list of users that match the query
+   * @param limit The maximum number of users to return
+   * @return A list of users that match the query, best match first
    */
   @GetMapping("/users/search")
-  public ResponseEntity<List<AppUser>> searchUsers(@RequestParam String query) {
-    List<AppUser> users = userService.searchUsers(query);
+  public ResponseEntity<List<UserCard>> searchUsers(@RequestParam String query,
+      @RequestParam(defaultValue = "20") int limit) {
+    List<UserCard> users = userService.searchUsers(query, limit);
     return ResponseEntity.ok(users);
   }
 
+  /**
+   * Retrieves the usernames matching a partially typed query, for search suggestions.
+   * 
+   * @param query The query to search for
+   * @param limit The maximum number of usernames to return
+   * @return A list of usernames that match the query, best match first
+   */
+  @GetMapping("/users/typeahead")
+  public ResponseEntity<List<String>> suggestUsernames(@RequestParam String query,
+      @RequestParam(defaultValue = "8") int limit) {
+    return ResponseEntity.ok(userService.suggestUsernames(query, limit));
+  }
+
 }
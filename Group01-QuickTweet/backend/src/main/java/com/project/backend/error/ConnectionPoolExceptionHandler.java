@@ -0,0 +1,36 @@
+package com.project.backend.error;
+
+import java.sql.SQLTransientConnectionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Answers requests that could not get a database connection in time with 503 and a Retry-After
+ * header. When requests run on virtual threads there is no request thread limit, so the
+ * connection pool is what bounds concurrency and this is how an overload shows up. Transactions
+ * report the timeout as {@link CannotCreateTransactionException}, repository calls outside a
+ * transaction as {@link DataAccessResourceFailureException}, and anything else that lets the pool's
+ * {@link SQLTransientConnectionException} through is matched on the cause.
+ */
+@RestControllerAdvice
+public class ConnectionPoolExceptionHandler {
+  private final String retryAfterSeconds;
+
+  public ConnectionPoolExceptionHandler(
+      @Value("${quicktweet.pool.retry-after-seconds:1}") long retryAfterSeconds) {
+    this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+  }
+
+  @ExceptionHandler({CannotCreateTransactionException.class,
+      DataAccessResourceFailureException.class, SQLTransientConnectionException.class})
+  public ResponseEntity<String> handleNoConnection(Exception e) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds).body("Server is busy");
+  }
+}
@@ -0,0 +1,17 @@
+package com.project.backend.error;
+
+/**
+ * Thrown when the login executor is saturated and a password check cannot be admitted in time.
+ */
+public class LoginRejectedException extends RuntimeException {
+  private final long retryAfterSeconds;
+
+  public LoginRejectedException(long retryAfterSeconds) {
+    super("Too many logins in progress");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -2,29 +2,99 @@ package com.project.backend.filter;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 
 @Component
-public class JwtService {
+public class JwtService implements MeterBinder {
   static final long EXPIRATIONTIME = 86400000;
+  static final int MAX_VERIFIED_TOKENS = 10000;
   public static final String PREFIX = "Bearer";
-  static final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+  private final SigningKeyRing keyRing;
+
+  // parsers are immutable once built, so one instance serves every request
+  private final JwtParser parser;
+
+  /**
+   * A token whose signature has already been checked, with the subject and expiry it carries and
+   * the key it was signed with.
+   */
+  private record VerifiedToken(String subject, long expiresAt, String keyId) {
+  }
+
+  /**
+   * Tokens that passed verification, each kept until the moment it expires.
+   */
+  private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+      .maximumSize(MAX_VERIFIED_TOKENS).expireAfter(new Expiry<String, VerifiedToken>() {
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+          long remaining = verified.expiresAt() - System.currentTimeMillis();
+          return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+            long currentDuration) {
+          return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+            long currentDuration) {
+          return currentDuration;
+        }
+      }).recordStats().build();
+
+  public JwtService(SigningKeyRing keyRing) {
+    this.keyRing = keyRing;
+    this.parser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+      @Override
+      public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        Key key = keyRing.verificationKey(header.getKeyId());
+        if (key == null) {
+          throw new SignatureException("Unknown signing key " + header.getKeyId());
+        }
+        return key;
+      }
+    }).build();
+  }
 
   public String getToken(String username) {
-    String token = Jwts.builder().setSubject(username)
-        .setExpiration(new Date(System.currentTimeMillis() + EXPIRATIONTIME)).signWith(key)
-        .compact();
+    String token = Jwts.builder().setHeaderParam(JwsHeader.KEY_ID, keyRing.activeKeyId())
+        .setSubject(username).setExpiration(new Date(System.currentTimeMillis() + EXPIRATIONTIME))
+        .signWith(keyRing.activeKey()).compact();
 
     return token;
   }
 
+  /**
+   * Retrieves the user a request's token was issued to. Tokens seen before are answered from the
+   * cache until they expire, so the signature is only checked once per token.
+   *
+   * @param request - The request carrying the token in its Authorization header
+   * @return The subject of the token, or null if the request has no token
+   */
   public String getAuthUser(HttpServletRequest request) {
     String token = request.getHeader(HttpHeaders.AUTHORIZATION);
 
@@ -32,13 +102,36 @@ public class JwtService {
       return null;
     }
 
-    String user = Jwts.parserBuilder().setSigningKey(key).build()
-        .parseClaimsJws(token.replace(PREFIX, "")).getBody().getSubject();
-
-    if (user == null) {
-      return null;
+    String jws = token.replace(PREFIX, "").trim();
+    VerifiedToken verified = verifiedTokens.getIfPresent(jws);
+    if (verified == null || verified.expiresAt() <= System.currentTimeMillis()
+        || keyRing.verificationKey(verified.keyId()) == null) {
+      verified = verify(jws);
+      verifiedTokens.put(jws, verified);
     }
 
-    return user;
+    return verified.subject();
+  }
+
+  public CacheStats stats() {
+    return verifiedTokens.stats();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verified-tokens");
+  }
+
+  /**
+   * Checks the signature and expiry of a token against the key named by its {@code kid}. Invalid
+   * tokens throw, and are never cached.
+   */
+  private VerifiedToken verify(String jws) {
+    Jws<Claims> parsed = parser.parseClaimsJws(jws);
+    Claims claims = parsed.getBody();
+    Date expiration = claims.getExpiration();
+    long expiresAt =
+        expiration != null ? expiration.getTime() : System.currentTimeMillis() + EXPIRATIONTIME;
+    return new VerifiedToken(claims.getSubject(), expiresAt, parsed.getHeader().getKeyId());
   }
 }
@@ -0,0 +1,131 @@
+package com.project.backend.filter;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.backend.error.LoginRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs password checks on virtual threads, at most {@code concurrency} at a time, so a burst of
+ * logins cannot take the CPU and request threads that serve the rest of the API. Up to
+ * {@code queueCapacity} further checks wait for a permit for at most {@code maxWaitMillis}; beyond
+ * that logins are rejected straight away with a {@link LoginRejectedException}.
+ *
+ * <p>
+ * Exports the number of queued checks ({@code login.queue.depth}), the time spent waiting for a
+ * permit ({@code login.wait}), the time spent in the whole check, user lookup included
+ * ({@code login.authenticate}), and the number of rejected logins ({@code login.rejected}). The
+ * password comparison alone is timed by the encoder as {@code password.matches}.
+ */
+@Component
+public class LoginExecutor implements DisposableBean {
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore admitted;
+  private final Semaphore running;
+  private final AtomicInteger queued = new AtomicInteger();
+  private final long maxWaitMillis;
+  private final long retryAfterSeconds;
+
+  private final Timer waitTimer;
+  private final Timer authenticateTimer;
+  private final Counter rejected;
+
+  public LoginExecutor(@Value("${quicktweet.login.concurrency:0}") int concurrency,
+      @Value("${quicktweet.login.queue-capacity:64}") int queueCapacity,
+      @Value("${quicktweet.login.max-wait-ms:2000}") long maxWaitMillis, MeterRegistry registry) {
+    int permits = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+    this.running = new Semaphore(permits, true);
+    this.admitted = new Semaphore(permits + queueCapacity);
+    this.maxWaitMillis = maxWaitMillis;
+    this.retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(maxWaitMillis + 999));
+
+    registry.gauge("login.queue.depth", queued);
+    this.waitTimer = registry.timer("login.wait");
+    this.authenticateTimer = registry.timer("login.authenticate");
+    this.rejected = registry.counter("login.rejected");
+  }
+
+  /**
+   * Runs a password check on the login executor and waits for its result.
+   *
+   * @param check - The password check, usually a call to the authentication manager
+   * @return The result of the check
+   * @throws LoginRejectedException - If the executor is saturated
+   * @throws Exception - Whatever the check throws, unwrapped
+   */
+  public <T> T authenticate(Callable<T> check) throws Exception {
+    if (!admitted.tryAcquire()) {
+      rejected.increment();
+      throw new LoginRejectedException(retryAfterSeconds);
+    }
+
+    long submitted = System.nanoTime();
+    queued.incrementAndGet();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> run(check, submitted));
+    } catch (RuntimeException e) {
+      queued.decrementAndGet();
+      admitted.release();
+      throw e;
+    }
+
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception exception) {
+        throw exception;
+      }
+      throw (Error) cause;
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw e;
+    } finally {
+      admitted.release();
+    }
+  }
+
+  public int getQueueDepth() {
+    return queued.get();
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> check, long submitted) throws Exception {
+    boolean started;
+    try {
+      started = running.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+    } finally {
+      queued.decrementAndGet();
+    }
+    waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+
+    if (!started) {
+      rejected.increment();
+      throw new LoginRejectedException(retryAfterSeconds);
+    }
+
+    try {
+      return authenticateTimer.recordCallable(check);
+    } finally {
+      running.release();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.project.backend.filter;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.project.backend.listener.QueryCountInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the number of statements each request sends to the database as
+ * {@code http.server.requests.queries}, tagged like {@code http.server.requests} with the method
+ * and the endpoint's URI pattern.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+  private final MeterRegistry registry;
+
+  public QueryCountFilter(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  protected void doFilterInternal(@NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryCountInspector.open();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int queries = QueryCountInspector.close();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      DistributionSummary.builder("http.server.requests.queries")
+          .description("Statements sent to the database per request")
+          .tag("method", request.getMethod())
+          .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+          .publishPercentileHistogram().register(registry).record(queries);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.project.backend.filter;
+
+import java.io.File;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * The keys tokens are signed and verified with, read from a keystore file shared by every node.
+ * Each secret key entry is a verification key whose alias is sent as the token's {@code kid}
+ * header. New tokens are signed with the configured alias, or otherwise with the newest entry that
+ * was added at least {@code activationDelay} ago, falling back to the oldest entry.
+ *
+ * <p>
+ * The file is reloaded when it changes. To rotate, add a new key to the keystore on every node and
+ * remove the old one only once the tokens it signed have expired, so no token in flight is
+ * rejected. The activation delay must be longer than the reload interval, so every node knows a
+ * new key before any node signs with it. Without a keystore a random key is generated, which only
+ * suits a single node.
+ */
+@Component
+public class SigningKeyRing {
+  private static final Logger logger = LoggerFactory.getLogger(SigningKeyRing.class);
+  static final String LOCAL_KEY_ID = "local";
+
+  private final File keystore;
+  private final char[] password;
+  private final String signingAlias;
+  private final long activationDelay;
+  private volatile Ring ring;
+  private Map<String, Key> keys;
+  private Map<String, Long> addedAt;
+  private long loadedAt;
+
+  /**
+   * The verification keys by id, and the id of the key new tokens are signed with.
+   */
+  record Ring(String activeKeyId, Map<String, Key> keys) {
+  }
+
+  public SigningKeyRing(@Value("${quicktweet.jwt.keystore:}") String keystore,
+      @Value("${quicktweet.jwt.keystore-password:}") String password,
+      @Value("${quicktweet.jwt.signing-key:}") String signingAlias,
+      @Value("${quicktweet.jwt.activation-delay-ms:120000}") long activationDelay) {
+    this.keystore = keystore.isBlank() ? null : new File(keystore);
+    this.password = password.toCharArray();
+    this.signingAlias = signingAlias.isBlank() ? null : signingAlias;
+    this.activationDelay = activationDelay;
+
+    if (this.keystore == null) {
+      logger.warn("No JWT keystore configured, tokens are only valid on this node");
+      ring = new Ring(LOCAL_KEY_ID,
+          Map.of(LOCAL_KEY_ID, Keys.secretKeyFor(SignatureAlgorithm.HS256)));
+    } else {
+      loadedAt = this.keystore.lastModified();
+      load();
+      ring = activate();
+    }
+  }
+
+  public String activeKeyId() {
+    return ring.activeKeyId();
+  }
+
+  public Key activeKey() {
+    Ring current = ring;
+    return current.keys().get(current.activeKeyId());
+  }
+
+  /**
+   * Retrieves a verification key.
+   *
+   * @param keyId - The {@code kid} header of a token
+   * @return The key, or null if the ring no longer holds it
+   */
+  public Key verificationKey(String keyId) {
+    return keyId == null ? null : ring.keys().get(keyId);
+  }
+
+  /**
+   * Reloads the keystore if it changed since it was last read, and switches to a newer key once
+   * its activation delay has passed. A keystore that cannot be read is logged and the current keys
+   * stay in use.
+   */
+  @Scheduled(fixedDelayString = "${quicktweet.jwt.reload-interval-ms:60000}")
+  public synchronized void refresh() {
+    if (keystore == null) {
+      return;
+    }
+
+    long modified = keystore.lastModified();
+    try {
+      boolean changed = modified != loadedAt;
+      if (changed) {
+        load();
+        loadedAt = modified;
+      }
+
+      String previous = ring.activeKeyId();
+      ring = activate();
+      if (changed || !ring.activeKeyId().equals(previous)) {
+        logger.info("Signing JWTs with key {} of {}", ring.activeKeyId(), ring.keys().size());
+      }
+    } catch (IllegalStateException e) {
+      logger.error("Could not reload JWT keystore, keeping the current keys", e);
+    }
+  }
+
+  private void load() {
+    try {
+      KeyStore store = KeyStore.getInstance(keystore, password);
+      Map<String, Key> loaded = new HashMap<>();
+      Map<String, Long> added = new HashMap<>();
+
+      for (String alias : Collections.list(store.aliases())) {
+        if (!store.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+          continue;
+        }
+        Key key = store.getKey(alias, password);
+        if (!(key instanceof SecretKey)) {
+          continue;
+        }
+        loaded.put(alias, key);
+
+        Date created = store.getCreationDate(alias);
+        added.put(alias, created == null ? 0 : created.getTime());
+      }
+
+      if (loaded.isEmpty() || (signingAlias != null && !loaded.containsKey(signingAlias))) {
+        throw new IllegalStateException("JWT keystore " + keystore + " has no signing key "
+            + (signingAlias == null ? "" : signingAlias));
+      }
+      keys = Map.copyOf(loaded);
+      addedAt = added;
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not read JWT keystore " + keystore, e);
+    }
+  }
+
+  private Ring activate() {
+    if (signingAlias != null) {
+      return new Ring(signingAlias, keys);
+    }
+
+    long activeBefore = System.currentTimeMillis() - activationDelay;
+    String newest = null;
+    String oldest = null;
+    for (String alias : keys.keySet()) {
+      long added = addedAt.get(alias);
+      if (added <= activeBefore && (newest == null || added > addedAt.get(newest))) {
+        newest = alias;
+      }
+      if (oldest == null || added < addedAt.get(oldest)) {
+        oldest = alias;
+      }
+    }
+    return new Ring(newest != null ? newest : oldest, keys);
+  }
+}
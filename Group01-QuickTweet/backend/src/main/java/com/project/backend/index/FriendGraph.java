@@ -0,0 +1,253 @@
+package com.project.backend.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory copy of the FRIENDS table in compressed sparse row form. User ids are stored once in
+ * a sorted array, and each friendship is an int index into that array, so an undirected
+ * friendship costs 8 bytes (4 in each direction) plus 12 bytes per user.
+ *
+ * <p>
+ * The compressed arrays are immutable. Users whose friends changed since they were built are kept
+ * in a small overlay of sorted id arrays, which is merged back into new arrays once it grows past
+ * a fraction of the graph. Friendships are symmetric and always stored in both directions.
+ * Changes are applied immediately and reverted if the surrounding transaction rolls back.
+ */
+@Component
+public class FriendGraph {
+  private static final long[] NONE = new long[0];
+  private static final int MIN_OVERLAY_SIZE = 1024;
+
+  private volatile Csr base = Csr.build(new TreeMap<>());
+  private final Map<Long, long[]> overlay = new ConcurrentHashMap<>();
+
+  /**
+   * An immutable adjacency structure. The friends of {@code ids[i]} are
+   * {@code ids[targets[offsets[i]]]} up to {@code ids[targets[offsets[i + 1] - 1]]}, in ascending
+   * order.
+   */
+  private record Csr(long[] ids, int[] offsets, int[] targets) {
+
+    static Csr build(TreeMap<Long, long[]> adjacency) {
+      long[] ids = adjacency.keySet().stream().mapToLong(Long::longValue).toArray();
+      int[] offsets = new int[ids.length + 1];
+      int edges = adjacency.values().stream().mapToInt(friends -> friends.length).sum();
+      int[] targets = new int[edges];
+
+      int i = 0;
+      for (long[] friends : adjacency.values()) {
+        offsets[i + 1] = offsets[i] + friends.length;
+        for (int j = 0; j < friends.length; j++) {
+          targets[offsets[i] + j] = Arrays.binarySearch(ids, friends[j]);
+        }
+        i++;
+      }
+      return new Csr(ids, offsets, targets);
+    }
+
+    long[] neighbors(long id) {
+      int index = Arrays.binarySearch(ids, id);
+      if (index < 0) {
+        return NONE;
+      }
+
+      long[] friends = new long[offsets[index + 1] - offsets[index]];
+      for (int j = 0; j < friends.length; j++) {
+        friends[j] = ids[targets[offsets[index] + j]];
+      }
+      return friends;
+    }
+
+    int degree(long id) {
+      int index = Arrays.binarySearch(ids, id);
+      return index < 0 ? 0 : offsets[index + 1] - offsets[index];
+    }
+  }
+
+  /**
+   * Replaces the whole graph, for loading it from the database.
+   *
+   * @param from - The first user of each friendship row
+   * @param to - The second user of each friendship row, at the same position
+   */
+  public synchronized void load(long[] from, long[] to) {
+    TreeMap<Long, long[]> adjacency = new TreeMap<>();
+    Map<Long, Integer> degrees = new HashMap<>();
+    for (int i = 0; i < from.length; i++) {
+      degrees.merge(from[i], 1, Integer::sum);
+      degrees.merge(to[i], 1, Integer::sum);
+    }
+    degrees.forEach((id, degree) -> adjacency.put(id, new long[degree]));
+
+    Map<Long, Integer> filled = new HashMap<>();
+    for (int i = 0; i < from.length; i++) {
+      adjacency.get(from[i])[filled.merge(from[i], 1, Integer::sum) - 1] = to[i];
+      adjacency.get(to[i])[filled.merge(to[i], 1, Integer::sum) - 1] = from[i];
+    }
+
+    // rows are usually stored in both directions, so every pair shows up twice
+    adjacency.replaceAll((id, friends) -> Arrays.stream(friends).sorted().distinct().toArray());
+    overlay.clear();
+    base = Csr.build(adjacency);
+  }
+
+  public void addFriendship(Long userId, Long friendId) {
+    if (link(userId, friendId)) {
+      onRollback(() -> unlink(userId, friendId));
+    }
+  }
+
+  public void removeFriendship(Long userId, Long friendId) {
+    if (unlink(userId, friendId)) {
+      onRollback(() -> link(userId, friendId));
+    }
+  }
+
+  /**
+   * Removes a user together with all of their friendships.
+   */
+  public void removeUser(Long userId) {
+    long[] friends = neighbors(userId);
+    for (long friendId : friends) {
+      unlink(userId, friendId);
+    }
+    onRollback(() -> Arrays.stream(friends).forEach(friendId -> link(userId, friendId)));
+  }
+
+  /**
+   * Retrieves the ids of a user's friends in ascending order. The array must not be modified.
+   */
+  public long[] neighbors(Long userId) {
+    long[] changed = overlay.get(userId);
+    return changed != null ? changed : base.neighbors(userId);
+  }
+
+  public int degree(Long userId) {
+    long[] changed = overlay.get(userId);
+    return changed != null ? changed.length : base.degree(userId);
+  }
+
+  public boolean areFriends(Long userId, Long friendId) {
+    return Arrays.binarySearch(neighbors(userId), friendId) >= 0;
+  }
+
+  /**
+   * Retrieves the friends two users have in common, in ascending order.
+   */
+  public long[] mutualFriends(Long userId, Long otherId) {
+    long[] first = neighbors(userId);
+    long[] second = neighbors(otherId);
+    long[] mutual = new long[Math.min(first.length, second.length)];
+    int count = 0;
+    for (int i = 0, j = 0; i < first.length && j < second.length;) {
+      if (first[i] < second[j]) {
+        i++;
+      } else if (first[i] > second[j]) {
+        j++;
+      } else {
+        mutual[count++] = first[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(mutual, count);
+  }
+
+  public int size() {
+    return base.ids().length + (int) overlay.keySet().stream()
+        .filter(id -> Arrays.binarySearch(base.ids(), id) < 0).count();
+  }
+
+  private synchronized boolean link(long userId, long friendId) {
+    boolean added = insert(userId, friendId);
+    insert(friendId, userId);
+    compactIfNeeded();
+    return added;
+  }
+
+  private synchronized boolean unlink(long userId, long friendId) {
+    boolean removed = delete(userId, friendId);
+    delete(friendId, userId);
+    compactIfNeeded();
+    return removed;
+  }
+
+  private boolean insert(long userId, long friendId) {
+    long[] friends = neighbors(userId);
+    int index = Arrays.binarySearch(friends, friendId);
+    if (index >= 0) {
+      return false;
+    }
+
+    // copy on write, so readers never see a half updated array
+    int position = -index - 1;
+    long[] updated = new long[friends.length + 1];
+    System.arraycopy(friends, 0, updated, 0, position);
+    updated[position] = friendId;
+    System.arraycopy(friends, position, updated, position + 1, friends.length - position);
+    overlay.put(userId, updated);
+    return true;
+  }
+
+  private boolean delete(long userId, long friendId) {
+    long[] friends = neighbors(userId);
+    int position = Arrays.binarySearch(friends, friendId);
+    if (position < 0) {
+      return false;
+    }
+
+    long[] updated = new long[friends.length - 1];
+    System.arraycopy(friends, 0, updated, 0, position);
+    System.arraycopy(friends, position + 1, updated, position, updated.length - position);
+    overlay.put(userId, updated);
+    return true;
+  }
+
+  /**
+   * Merges the overlay into new compressed arrays once it holds more than a sixteenth of the
+   * users. Overlay entries are only dropped after the new arrays are published, so readers see
+   * the same friends throughout.
+   */
+  private void compactIfNeeded() {
+    Csr current = base;
+    if (overlay.size() <= Math.max(MIN_OVERLAY_SIZE, current.ids().length / 16)) {
+      return;
+    }
+
+    TreeMap<Long, long[]> adjacency = new TreeMap<>();
+    for (long id : current.ids()) {
+      adjacency.put(id, current.neighbors(id));
+    }
+    Map<Long, long[]> merged = Map.copyOf(overlay);
+    merged.forEach((id, friends) -> {
+      if (friends.length == 0) {
+        adjacency.remove(id);
+      } else {
+        adjacency.put(id, friends);
+      }
+    });
+
+    base = Csr.build(adjacency);
+    merged.forEach(overlay::remove);
+  }
+
+  private static void onRollback(Runnable revert) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            revert.run();
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.project.backend.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory bitmap index from each interest to the ids of the approved users who have it. The
+ * bitmaps are compressed Roaring bitmaps, so set operations across interests and their counts run
+ * on a few kilobytes per interest without touching the database.
+ *
+ * <p>
+ * Roaring bitmaps hold 32-bit values, so user ids must stay below {@link Integer#MAX_VALUE}.
+ * Changes are applied immediately and reverted if the surrounding transaction rolls back.
+ */
+@Component
+public class InterestIndex {
+  private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+  private final Map<Integer, Set<String>> interests = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * Replaces the interests indexed for a user.
+   * 
+   * @param id - The id of the user
+   * @param userInterests - The interests of the user
+   * @param searchable - Whether the user should be found at all, false removes them
+   */
+  public void update(Long id, Collection<String> userInterests, boolean searchable) {
+    int userId = Math.toIntExact(id);
+    Set<String> updated = searchable && userInterests != null ? Set.copyOf(userInterests) : null;
+    Set<String> previous = replace(userId, updated);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            replace(userId, previous);
+          }
+        }
+      });
+    }
+  }
+
+  private Set<String> replace(int userId, Set<String> updated) {
+    lock.writeLock().lock();
+    try {
+      Set<String> previous = updated == null ? interests.remove(userId)
+          : interests.put(userId, updated);
+      if (previous != null) {
+        for (String interest : previous) {
+          RoaringBitmap users = bitmaps.get(interest);
+          users.remove(userId);
+          if (users.isEmpty()) {
+            bitmaps.remove(interest);
+          }
+        }
+      }
+      if (updated != null) {
+        for (String interest : updated) {
+          bitmaps.computeIfAbsent(interest, key -> new RoaringBitmap()).add(userId);
+        }
+      }
+      return previous;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the users matching a combination of interests. Exclusions alone match nobody, the same
+   * as an empty interest search.
+   * 
+   * @param all - Interests the users must all have, ignored if empty
+   * @param any - Interests the users must have at least one of, ignored if empty
+   * @param none - Interests the users must not have
+   * @return - The ids of the matching users in ascending order, empty if all and any are empty
+   */
+  public RoaringBitmap query(Collection<String> all, Collection<String> any,
+      Collection<String> none) {
+    if (all.isEmpty() && any.isEmpty()) {
+      return new RoaringBitmap();
+    }
+
+    lock.readLock().lock();
+    try {
+      RoaringBitmap result = null;
+      for (String interest : all) {
+        RoaringBitmap users = bitmaps.getOrDefault(interest, new RoaringBitmap());
+        result = result == null ? users.clone() : RoaringBitmap.and(result, users);
+      }
+      if (!any.isEmpty()) {
+        RoaringBitmap union = RoaringBitmap.or(any.stream().map(bitmaps::get)
+            .filter(users -> users != null).iterator());
+        result = result == null ? union : RoaringBitmap.and(result, union);
+      }
+      for (String interest : none) {
+        RoaringBitmap users = bitmaps.get(interest);
+        if (users != null) {
+          result.andNot(users);
+        }
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public long count(Collection<String> all, Collection<String> any, Collection<String> none) {
+    return query(all, any, none).getLongCardinality();
+  }
+
+  /**
+   * Retrieves the indexed interests of a user, empty if the user is not indexed.
+   */
+  public Set<String> interestsOf(Long id) {
+    lock.readLock().lock();
+    try {
+      return interests.getOrDefault(Math.toIntExact(id), Set.of());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves the number of users with each interest, in alphabetical order.
+   */
+  public Map<String, Integer> counts() {
+    lock.readLock().lock();
+    try {
+      Map<String, Integer> counts = new TreeMap<>();
+      bitmaps.forEach((interest, users) -> counts.put(interest, users.getCardinality()));
+      return counts;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
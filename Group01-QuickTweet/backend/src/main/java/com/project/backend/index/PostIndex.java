@@ -0,0 +1,221 @@
+package com.project.backend.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.backend.model.Post;
+
+/**
+ * In-memory inverted index over post content, kept per author. Every suffix of every word an author
+ * used maps to the ids of their posts that contain it, newest first, so a query term matches any
+ * word it is a substring of: "weet" finds "tweet" and "tweets". Each term of a query is matched on
+ * its own, unlike the old filter that looked for the whole query as one substring. A search only
+ * walks the postings of the authors it may return.
+ *
+ * <p>
+ * The index is maintained by the post service as posts are written, and changes made inside a
+ * transaction are reverted if it rolls back. Until then it can list posts whose transaction has
+ * not committed, so callers must load the returned posts and check them before showing them.
+ */
+@Component
+public class PostIndex {
+  private final Map<Long, ConcurrentSkipListMap<String, NavigableSet<Long>>> postings =
+      new ConcurrentHashMap<>();
+  private final Map<Long, IndexedPost> posts = new ConcurrentHashMap<>();
+
+  private record IndexedPost(Long authorId, String[] terms) {
+  }
+
+  /**
+   * The next id of one postings list, for merging the lists newest first.
+   */
+  private record Head(Long id, Iterator<Long> rest) {
+  }
+
+  /**
+   * Splits text into lowercase terms on anything that is not a letter or a digit.
+   * 
+   * @param text - The text to tokenize
+   * @return - The distinct terms, in order of appearance
+   */
+  public static List<String> tokenize(String text) {
+    if (text == null) {
+      return List.of();
+    }
+
+    Set<String> terms = new LinkedHashSet<>();
+    for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (!term.isEmpty()) {
+        terms.add(term);
+      }
+    }
+    return new ArrayList<>(terms);
+  }
+
+  /**
+   * Adds a post to the index, replacing any earlier version of it.
+   */
+  public void index(Post post) {
+    index(post.getId(), post.getUser().getId(), post.getContent());
+  }
+
+  public void index(Long postId, Long authorId, String content) {
+    IndexedPost previous =
+        put(postId, new IndexedPost(authorId, tokenize(content).toArray(String[]::new)));
+    onRollback(() -> put(postId, previous));
+  }
+
+  public void remove(Long postId) {
+    IndexedPost previous = put(postId, null);
+    if (previous != null) {
+      onRollback(() -> put(postId, previous));
+    }
+  }
+
+  public int size() {
+    return posts.size();
+  }
+
+  /**
+   * Finds the newest posts by the given authors that match every term of the query.
+   * 
+   * @param query - The text to search for, every term of it has to match
+   * @param authorIds - The authors whose posts may be returned
+   * @param limit - The maximum number of ids to return
+   * @return - The ids of the matching posts, newest first
+   */
+  public List<Long> search(String query, Collection<Long> authorIds, int limit) {
+    List<String> terms = tokenize(query);
+    if (terms.isEmpty() || authorIds.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    // walk the postings of the longest term, which starts the fewest indexed suffixes, and check
+    // the rest against each candidate
+    String driving = terms.stream().max(Comparator.comparingInt(String::length)).get();
+    Predicate<IndexedPost> matchesAll = post -> terms.stream()
+        .allMatch(term -> Arrays.stream(post.terms()).anyMatch(word -> word.contains(term)));
+
+    PriorityQueue<Head> heads =
+        new PriorityQueue<>(Comparator.comparing(Head::id, Comparator.reverseOrder()));
+    for (Long authorId : Set.copyOf(authorIds)) {
+      ConcurrentSkipListMap<String, NavigableSet<Long>> authorTerms = postings.get(authorId);
+      if (authorTerms == null) {
+        continue;
+      }
+      for (NavigableSet<Long> ids : authorTerms
+          .subMap(driving, true, driving + Character.MAX_VALUE, false).values()) {
+        advance(heads, ids.iterator());
+      }
+    }
+
+    // an id listed under several suffixes of its author comes out of the queue back to back
+    List<Long> ids = new ArrayList<>();
+    Long last = null;
+    while (!heads.isEmpty() && ids.size() < limit) {
+      Head head = heads.poll();
+      advance(heads, head.rest());
+      if (head.id().equals(last)) {
+        continue;
+      }
+      last = head.id();
+
+      IndexedPost post = posts.get(head.id());
+      if (post != null && matchesAll.test(post)) {
+        ids.add(head.id());
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Checks text against a query the same way {@link #search} does, for verifying search results
+   * against the stored posts.
+   */
+  public static boolean matches(String query, String text) {
+    List<String> words = tokenize(text);
+    return tokenize(query).stream()
+        .allMatch(term -> words.stream().anyMatch(word -> word.contains(term)));
+  }
+
+  /**
+   * Lists every suffix of the given words, the keys a post is indexed under.
+   */
+  private static Set<String> suffixes(String[] words) {
+    Set<String> suffixes = new LinkedHashSet<>();
+    for (String word : words) {
+      for (int i = 0; i < word.length(); i = word.offsetByCodePoints(i, 1)) {
+        suffixes.add(word.substring(i));
+      }
+    }
+    return suffixes;
+  }
+
+  private static void advance(PriorityQueue<Head> heads, Iterator<Long> ids) {
+    if (ids.hasNext()) {
+      heads.add(new Head(ids.next(), ids));
+    }
+  }
+
+  /**
+   * Replaces the indexed version of a post, or removes it if {@code post} is null.
+   * 
+   * @return - The version that was indexed before, or null
+   */
+  private synchronized IndexedPost put(Long postId, IndexedPost post) {
+    IndexedPost previous = post == null ? posts.remove(postId) : posts.put(postId, post);
+    if (previous != null) {
+      ConcurrentSkipListMap<String, NavigableSet<Long>> authorTerms =
+          postings.get(previous.authorId());
+      for (String suffix : suffixes(previous.terms())) {
+        authorTerms.computeIfPresent(suffix, (key, ids) -> {
+          ids.remove(postId);
+          return ids.isEmpty() ? null : ids;
+        });
+      }
+      if (authorTerms.isEmpty()) {
+        postings.remove(previous.authorId());
+      }
+    }
+
+    if (post != null) {
+      ConcurrentSkipListMap<String, NavigableSet<Long>> authorTerms =
+          postings.computeIfAbsent(post.authorId(), key -> new ConcurrentSkipListMap<>());
+      for (String suffix : suffixes(post.terms())) {
+        authorTerms.computeIfAbsent(suffix,
+            key -> new ConcurrentSkipListSet<>(Comparator.reverseOrder())).add(postId);
+      }
+    }
+    return previous;
+  }
+
+  private static void onRollback(Runnable revert) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            revert.run();
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.project.backend.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory n-gram index over the usernames of approved users, so substring searches do not have
+ * to scan the user table. Every username is indexed by all of its substrings of up to three
+ * characters. A query of up to three characters is a single lookup, and a longer one checks the
+ * candidates of its rarest trigram directly.
+ *
+ * <p>
+ * The index is kept in sync by {@link com.project.backend.listener.AppUserListener}. Changes are
+ * applied as soon as they are flushed and reverted if the transaction rolls back.
+ */
+@Component
+public class UsernameIndex {
+  private static final int GRAM_LENGTH = 3;
+
+  private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+  private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+
+  /**
+   * Adds or removes a user depending on whether they should be searchable.
+   * 
+   * @param id - The id of the user
+   * @param username - The username of the user
+   * @param searchable - Whether the user should be found by searches
+   */
+  public void update(Long id, String username, boolean searchable) {
+    String previous = searchable ? put(id, username) : remove(id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            if (previous == null) {
+              remove(id);
+            } else {
+              put(id, previous);
+            }
+          }
+        }
+      });
+    }
+  }
+
+  private synchronized String put(Long id, String username) {
+    String previous = remove(id);
+    String key = username.toLowerCase(Locale.ROOT);
+    usernames.put(id, username);
+    for (String gram : grams(key)) {
+      postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+    return previous;
+  }
+
+  private synchronized String remove(Long id) {
+    String previous = usernames.remove(id);
+    if (previous != null) {
+      for (String gram : grams(previous.toLowerCase(Locale.ROOT))) {
+        postings.computeIfPresent(gram, (k, ids) -> {
+          ids.remove(id);
+          return ids.isEmpty() ? null : ids;
+        });
+      }
+    }
+    return previous;
+  }
+
+  public int size() {
+    return usernames.size();
+  }
+
+  /**
+   * Finds the users whose username contains the query, ignoring case. Exact matches come first,
+   * then usernames starting with the query, then shorter usernames.
+   * 
+   * @param query - The text to search for
+   * @param limit - The maximum number of users to return
+   * @return - The ids of the matching users, best match first
+   */
+  public List<Long> search(String query, int limit) {
+    return rank(query, limit).stream().map(Match::id).toList();
+  }
+
+  /**
+   * Same as {@link #search}, but returns the usernames themselves.
+   */
+  public List<String> suggest(String query, int limit) {
+    return rank(query, limit).stream().map(Match::username).toList();
+  }
+
+  private List<Match> rank(String query, int limit) {
+    if (query == null || query.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    String key = query.toLowerCase(Locale.ROOT);
+    Set<Long> candidates = key.length() <= GRAM_LENGTH ? postings.get(key) : rarestGram(key);
+    if (candidates == null || candidates.isEmpty()) {
+      return List.of();
+    }
+
+    List<Match> matches = new ArrayList<>();
+    for (Long id : candidates) {
+      String username = usernames.get(id);
+      if (username != null && username.toLowerCase(Locale.ROOT).contains(key)) {
+        matches.add(new Match(id, username, username.toLowerCase(Locale.ROOT)));
+      }
+    }
+
+    Comparator<Match> ranking = Comparator.comparing((Match match) -> !match.name().equals(key))
+        .thenComparing(match -> !match.name().startsWith(key))
+        .thenComparingInt(match -> match.name().length()).thenComparing(Match::name);
+    return matches.stream().sorted(ranking).limit(limit).toList();
+  }
+
+  private record Match(Long id, String username, String name) {
+  }
+
+  /**
+   * Retrieves the smallest postings list among the trigrams of the key. Its ids are a superset of
+   * the matches, which are then checked against the usernames themselves.
+   */
+  private Set<Long> rarestGram(String key) {
+    Set<Long> rarest = null;
+    for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+      Set<Long> ids = postings.get(key.substring(i, i + GRAM_LENGTH));
+      if (ids == null) {
+        return Set.of();
+      }
+      if (rarest == null || ids.size() < rarest.size()) {
+        rarest = ids;
+      }
+    }
+    return rarest;
+  }
+
+  private static List<String> grams(String key) {
+    List<String> grams = new ArrayList<>();
+    for (int length = 1; length <= GRAM_LENGTH; length++) {
+      for (int i = 0; i + length <= key.length(); i++) {
+        grams.add(key.substring(i, i + length));
+      }
+    }
+    return grams;
+  }
+}
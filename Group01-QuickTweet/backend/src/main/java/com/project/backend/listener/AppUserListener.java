@@ -0,0 +1,49 @@
+package com.project.backend.listener;
+
+import org.hibernate.Hibernate;
+
+import com.project.backend.index.InterestIndex;
+import com.project.backend.index.UsernameIndex;
+import com.project.backend.model.AppUser;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Keeps the in-memory user indexes in sync with the user table. Hibernate creates it through the
+ * Spring bean container, so it sees every write no matter which service or repository made it.
+ */
+public class AppUserListener {
+  private final UsernameIndex usernameIndex;
+  private final InterestIndex interestIndex;
+
+  public AppUserListener(UsernameIndex usernameIndex, InterestIndex interestIndex) {
+    this.usernameIndex = usernameIndex;
+    this.interestIndex = interestIndex;
+  }
+
+  /**
+   * Indexes a user once they are saved, as long as their account has been approved.
+   */
+  @PostPersist
+  @PostUpdate
+  public void onSave(AppUser user) {
+    boolean searchable = !user.isPendingRequest();
+    usernameIndex.update(user.getId(), user.getUsername(), searchable);
+
+    // an interests collection that was never loaded was not changed either, and it cannot be
+    // loaded in the middle of a flush
+    if (Hibernate.isInitialized(user.getInterests())) {
+      interestIndex.update(user.getId(), user.getInterests(), searchable);
+    } else if (!searchable) {
+      interestIndex.update(user.getId(), null, false);
+    }
+  }
+
+  @PostRemove
+  public void onRemove(AppUser user) {
+    usernameIndex.update(user.getId(), user.getUsername(), false);
+    interestIndex.update(user.getId(), null, false);
+  }
+}
@@ -0,0 +1,38 @@
+package com.project.backend.listener;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the statements Hibernate prepares on the current thread while a count is open. Statements
+ * run on other threads, such as the login executor's, are not counted.
+ */
+public class QueryCountInspector implements StatementInspector {
+  private static final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+  @Override
+  public String inspect(String sql) {
+    int[] current = count.get();
+    if (current != null) {
+      current[0]++;
+    }
+    return sql;
+  }
+
+  /**
+   * Starts counting on the current thread.
+   */
+  public static void open() {
+    count.set(new int[1]);
+  }
+
+  /**
+   * Stops counting on the current thread.
+   * 
+   * @return The number of statements prepared since {@link #open()}
+   */
+  public static int close() {
+    int[] current = count.get();
+    count.remove();
+    return current == null ? 0 : current[0];
+  }
+}
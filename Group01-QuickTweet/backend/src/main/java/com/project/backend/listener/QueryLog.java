@@ -0,0 +1,124 @@
+package com.project.backend.listener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.model.QueryShape;
+
+/**
+ * Aggregates the time spent in each statement by fingerprint, and logs the statements slower than
+ * {@code slow-ms} plus a random {@code sample-rate} share of the others. Only fingerprints are
+ * logged, so no bind parameter or literal ever reaches the log.
+ *
+ * <p>
+ * At most {@code max-shapes} fingerprints are aggregated; statements of new shapes beyond that are
+ * still logged but not counted.
+ */
+@Component
+public class QueryLog {
+  private static final Logger logger = LoggerFactory.getLogger(QueryLog.class);
+  private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern IN_LIST =
+      Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final Cache<String, String> fingerprints =
+      Caffeine.newBuilder().maximumSize(10_000).build();
+  private final ConcurrentMap<String, Shape> shapes = new ConcurrentHashMap<>();
+  private final long slowNanos;
+  private final double sampleRate;
+  private final int maxShapes;
+
+  public QueryLog(@Value("${quicktweet.query-log.slow-ms:200}") long slowMillis,
+      @Value("${quicktweet.query-log.sample-rate:0}") double sampleRate,
+      @Value("${quicktweet.query-log.max-shapes:1000}") int maxShapes) {
+    this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    this.sampleRate = sampleRate;
+    this.maxShapes = maxShapes;
+  }
+
+  /**
+   * Records one execution of a statement.
+   * 
+   * @param sql - The statement as it was prepared
+   * @param nanos - How long it took to execute
+   */
+  public void record(String sql, long nanos) {
+    String fingerprint = fingerprints.get(sql, QueryLog::fingerprint);
+    Shape shape = shapes.get(fingerprint);
+    if (shape == null && shapes.size() < maxShapes) {
+      shape = shapes.computeIfAbsent(fingerprint, key -> new Shape());
+    }
+    if (shape != null) {
+      shape.add(nanos);
+    }
+
+    if (nanos >= slowNanos) {
+      logger.warn("Slow query took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos), fingerprint);
+    } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+      logger.info("Sampled query took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+          fingerprint);
+    }
+  }
+
+  /**
+   * Retrieves the statistics of the query shapes that come first in the given order.
+   * 
+   * @param limit - The number of shapes to return
+   * @param order - The order of the shapes, slowest first
+   * @return At most {@code limit} shapes
+   */
+  public List<QueryShape> top(int limit, Comparator<QueryShape> order) {
+    return shapes.entrySet().stream().map(entry -> entry.getValue().snapshot(entry.getKey()))
+        .sorted(order).limit(limit).toList();
+  }
+
+  public void clear() {
+    shapes.clear();
+  }
+
+  /**
+   * Replaces the literals of a statement with {@code ?}, collapses {@code IN} lists to a single
+   * parameter and normalizes whitespace, so statements that only differ in their values share a
+   * fingerprint.
+   */
+  static String fingerprint(String sql) {
+    String fingerprint = STRING.matcher(sql).replaceAll("?");
+    fingerprint = NUMBER.matcher(fingerprint).replaceAll("?");
+    fingerprint = IN_LIST.matcher(fingerprint).replaceAll("in (?)");
+    return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+  }
+
+  private static class Shape {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    void add(long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+    }
+
+    QueryShape snapshot(String fingerprint) {
+      long executions = count.sum();
+      double total = totalNanos.sum() / 1e6;
+      return new QueryShape(fingerprint, executions, total,
+          executions == 0 ? 0 : total / executions, maxNanos.get() / 1e6);
+    }
+  }
+}
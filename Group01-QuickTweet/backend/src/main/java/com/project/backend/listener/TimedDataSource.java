@@ -0,0 +1,89 @@
+package com.project.backend.listener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source whose connections time every statement they execute and report it to the
+ * {@link QueryLog}. A Hibernate statement inspector only sees the SQL before it runs, so the
+ * timing has to happen at the JDBC level.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+  private final QueryLog queryLog;
+
+  public TimedDataSource(DataSource target, QueryLog queryLog) {
+    super(target);
+    this.queryLog = queryLog;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return timed(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return timed(super.getConnection(username, password));
+  }
+
+  private Connection timed(Connection connection) {
+    return proxy(Connection.class, connection, (method, args) -> {
+      Object result = invoke(connection, method, args);
+      if (result instanceof Statement statement && method.getReturnType().isInterface()
+          && Statement.class.isAssignableFrom(method.getReturnType())) {
+        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+        return timed(method.getReturnType(), statement, sql);
+      }
+      return result;
+    });
+  }
+
+  private Object timed(Class<?> type, Statement statement, String preparedSql) {
+    return proxy(type, statement, (method, args) -> {
+      if (!method.getName().startsWith("execute")) {
+        return invoke(statement, method, args);
+      }
+
+      String sql = preparedSql;
+      if (sql == null && args != null && args.length > 0 && args[0] instanceof String text) {
+        sql = text;
+      }
+      long start = System.nanoTime();
+      try {
+        return invoke(statement, method, args);
+      } finally {
+        if (sql != null) {
+          queryLog.record(sql, System.nanoTime() - start);
+        }
+      }
+    });
+  }
+
+  private interface Handler {
+    Object handle(Method method, Object[] args) throws Throwable;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+    return (T) Proxy.newProxyInstance(TimedDataSource.class.getClassLoader(),
+        new Class<?>[] {type}, (proxy, method, args) -> switch (method.getName()) {
+          case "equals" -> proxy == args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          default -> handler.handle(method, args);
+        });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
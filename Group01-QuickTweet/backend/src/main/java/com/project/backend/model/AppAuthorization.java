@@ -18,6 +18,11 @@ public class AppAuthorization {
   @Column(nullable = false, updatable = false)
   private Long id;
 
+  /**
+   * Accounts queued for approval before the queue moved to {@link AppUser#isPendingRequest()}.
+   * Nothing is added any more; the startup runner empties it so the rows no longer block deleting
+   * those accounts.
+   */
   @ElementCollection
   @JoinTable(name = "PENDING_REQUESTS", joinColumns = @JoinColumn(name = "APP_ID"), inverseJoinColumns = @JoinColumn(name = "USER_ID"))
   Set<AppUser> pendingRequests = new HashSet<>();
@@ -35,16 +40,4 @@ public class AppAuthorization {
   public Set<AppUser> getPendingRequests() {
     return pendingRequests;
   }
-
-  public void setPendingRequests(Set<AppUser> pendingRequests) {
-    this.pendingRequests = pendingRequests;
-  }
-
-  public void addPendingRequest(AppUser user) {
-    this.pendingRequests.add(user);
-  }
-
-  public void deletePendingRequest(AppUser user) {
-    this.pendingRequests.remove(user);
-  }
 }
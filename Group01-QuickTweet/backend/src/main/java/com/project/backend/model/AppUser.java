@@ -3,6 +3,7 @@ package com.project.backend.model;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.project.backend.listener.AppUserListener;
 
 import java.util.HashSet;
 import java.util.List;
@@ -10,16 +11,21 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 
 @Entity
+@EntityListeners(AppUserListener.class)
+@Table(indexes = @Index(name = "IDX_APP_USER_PENDING", columnList = "PENDING_REQUEST"))
 public class AppUser {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,14 +60,16 @@ public class AppUser {
   @JoinTable(name = "FRIENDS",
       joinColumns = @JoinColumn(name = "USER_ID", referencedColumnName = "id", nullable = false),
       inverseJoinColumns = @JoinColumn(name = "FRIEND_ID", referencedColumnName = "id",
-          nullable = false))
+          nullable = false),
+      indexes = @Index(name = "IDX_FRIENDS_FRIEND", columnList = "FRIEND_ID"))
   private Set<AppUser> friends = new HashSet<>();
 
   @ManyToMany(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
   @JoinTable(name = "FRIEND_REQUESTS",
       joinColumns = @JoinColumn(name = "USER_ID", referencedColumnName = "id", nullable = false),
       inverseJoinColumns = @JoinColumn(name = "FRIEND_ID", referencedColumnName = "id",
-          nullable = false))
+          nullable = false),
+      indexes = @Index(name = "IDX_FRIEND_REQUESTS_FRIEND", columnList = "FRIEND_ID"))
   private Set<AppUser> friendRequests = new HashSet<>();
 
   private String bio;
@@ -73,6 +81,7 @@ public class AppUser {
   @ElementCollection
   private Set<String> interests;
 
+  @Column(name = "PENDING_REQUEST")
   private boolean pendingRequest;
 
   public AppUser(String username, String email, String password, String role,
@@ -0,0 +1,12 @@
+package com.project.backend.model;
+
+/**
+ * The fields of a user that most requests need to resolve a username, small enough to cache.
+ */
+public record CachedUser(Long id, String username, String role, String status,
+    boolean pendingRequest) {
+
+  public boolean isAdmin() {
+    return "ADMIN".equals(role);
+  }
+}
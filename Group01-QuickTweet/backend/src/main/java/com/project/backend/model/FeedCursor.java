@@ -0,0 +1,51 @@
+package com.project.backend.model;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
+
+/**
+ * Position in a feed, identified by the creation date and id of the last post on a page. The
+ * cursor is handed to clients as an opaque string so the encoding can change without breaking
+ * them.
+ */
+public record FeedCursor(Timestamp createDate, Long id) {
+
+  public static FeedCursor of(Post post) {
+    return new FeedCursor(post.getCreateDate(), post.getId());
+  }
+
+  public static FeedCursor of(PostView post) {
+    return new FeedCursor(post.createDate(), post.id());
+  }
+
+  /**
+   * Encodes the cursor as a URL safe string.
+   * 
+   * @return - The opaque cursor string
+   */
+  public String encode() {
+    String raw = createDate.getTime() + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor previously produced by {@link #encode()}.
+   * 
+   * @param cursor - The opaque cursor string
+   * @return - The decoded cursor
+   * @throws IllegalArgumentException - If the cursor is malformed
+   */
+  public static FeedCursor decode(String cursor) throws IllegalArgumentException {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      long millis = Long.parseLong(raw.substring(0, separator));
+      long id = Long.parseLong(raw.substring(separator + 1));
+      return new FeedCursor(new Timestamp(millis), id);
+    } catch (RuntimeException err) {
+      throw new IllegalArgumentException("Invalid feed cursor.");
+    }
+  }
+}
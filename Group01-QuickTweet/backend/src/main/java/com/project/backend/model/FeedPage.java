@@ -0,0 +1,26 @@
+package com.project.backend.model;
+
+import java.util.List;
+
+/**
+ * One page of a user's feed. {@code nextCursor} is null once the end of the feed is reached.
+ */
+public record FeedPage(List<PostView> posts, String nextCursor) {
+
+  /**
+   * Builds a page from a list fetched with one extra row, which is only used to tell whether
+   * another page exists.
+   * 
+   * @param posts - Up to pageSize + 1 posts, newest first
+   * @param pageSize - The number of posts to return
+   * @return - The feed page
+   */
+  public static FeedPage of(List<PostView> posts, int pageSize) {
+    if (posts.size() <= pageSize) {
+      return new FeedPage(posts, null);
+    }
+
+    List<PostView> page = posts.subList(0, pageSize);
+    return new FeedPage(List.copyOf(page), FeedCursor.of(page.get(pageSize - 1)).encode());
+  }
+}
@@ -0,0 +1,8 @@
+package com.project.backend.model;
+
+/**
+ * A user recommended as a friend, with the signals the recommendation is based on.
+ */
+public record FriendRecommendation(RecommendedUser user, int mutualFriends, int sharedInterests,
+    double score) {
+}
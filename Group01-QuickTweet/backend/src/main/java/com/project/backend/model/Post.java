@@ -1,16 +1,25 @@
 package com.project.backend.model;
 
 import java.sql.Timestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "IDX_POST_USER_CREATE_DATE", columnList = "USER_ID, CREATE_DATE, id"),
+    @Index(name = "IDX_POST_PULLED_USER_CREATE_DATE",
+        columnList = "PULLED, USER_ID, CREATE_DATE, id")})
 public class Post {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +35,11 @@ public class Post {
   @JoinColumn(name = "USER_ID", nullable = false)
   private AppUser user;
 
+  // whether the post was left out of inboxes and is merged into feeds when they are read
+  @JsonIgnore
+  @Column(name = "PULLED", nullable = false)
+  private boolean pulled;
+
   public Post(String content) {
     this.content = content;
   }
@@ -64,4 +78,12 @@ public class Post {
     this.user = user;
   }
 
+  public boolean isPulled() {
+    return pulled;
+  }
+
+  public void setPulled(boolean pulled) {
+    this.pulled = pulled;
+  }
+
 }
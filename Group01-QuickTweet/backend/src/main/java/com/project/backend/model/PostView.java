@@ -0,0 +1,14 @@
+package com.project.backend.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Read-only view of a post as it is shown in a feed.
+ */
+public record PostView(Long id, String content, Timestamp createDate, UserSummary user) {
+
+  public static PostView from(Post post) {
+    return new PostView(post.getId(), post.getContent(), post.getCreateDate(),
+        UserSummary.from(post.getUser()));
+  }
+}
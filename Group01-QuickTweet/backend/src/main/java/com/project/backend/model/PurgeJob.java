@@ -0,0 +1,115 @@
+package com.project.backend.model;
+
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+
+/**
+ * A batch of accounts an admin asked to delete. The ids still to be deleted are kept in their own
+ * table and removed chunk by chunk, so a job picks up where it left off after a restart.
+ */
+@Entity
+@Table(name = "PURGE_JOB", indexes = @Index(name = "IDX_PURGE_JOB_STATUS", columnList = "STATUS"))
+public class PurgeJob {
+  public enum Status {
+    RUNNING, FAILED, COMPLETED
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "REQUESTED_BY", nullable = false)
+  private String requestedBy;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "STATUS", nullable = false)
+  private Status status = Status.RUNNING;
+
+  @Column(nullable = false)
+  private int total;
+
+  @Column(nullable = false)
+  private int deleted;
+
+  @Column(nullable = false)
+  private int missing;
+
+  @Column(nullable = false)
+  private int failed;
+
+  private String error;
+
+  @Column(name = "CREATE_DATE", nullable = false)
+  private Timestamp createDate;
+
+  @Column(name = "UPDATE_DATE", nullable = false)
+  private Timestamp updateDate;
+
+  @ElementCollection
+  @CollectionTable(name = "PURGE_JOB_USER", joinColumns = @JoinColumn(name = "JOB_ID"))
+  @Column(name = "USER_ID", nullable = false)
+  private Set<Long> remainingUserIds = new HashSet<>();
+
+  public PurgeJob(String requestedBy, Set<Long> userIds) {
+    this.requestedBy = requestedBy;
+    this.remainingUserIds = new HashSet<>(userIds);
+    this.total = userIds.size();
+    this.createDate = new Timestamp(System.currentTimeMillis());
+    this.updateDate = createDate;
+  }
+
+  public PurgeJob() {}
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getRequestedBy() {
+    return requestedBy;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public int getDeleted() {
+    return deleted;
+  }
+
+  public int getMissing() {
+    return missing;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public Timestamp getCreateDate() {
+    return createDate;
+  }
+
+  public Timestamp getUpdateDate() {
+    return updateDate;
+  }
+}
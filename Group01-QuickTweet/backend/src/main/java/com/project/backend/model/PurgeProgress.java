@@ -0,0 +1,17 @@
+package com.project.backend.model;
+
+import java.sql.Timestamp;
+
+/**
+ * The state of a purge job. {@code remaining} counts the accounts not processed yet, and
+ * {@code missing} the ones that had already been deleted when their turn came, and {@code failed}
+ * the ones that could not be deleted and were skipped.
+ */
+public record PurgeProgress(Long id, PurgeJob.Status status, int total, int deleted, int missing,
+    int failed, long remaining, String error, Timestamp createDate, Timestamp updateDate) {
+
+  public static PurgeProgress of(PurgeJob job, long remaining) {
+    return new PurgeProgress(job.getId(), job.getStatus(), job.getTotal(), job.getDeleted(),
+        job.getMissing(), job.getFailed(), remaining, job.getError(), job.getCreateDate(), job.getUpdateDate());
+  }
+}
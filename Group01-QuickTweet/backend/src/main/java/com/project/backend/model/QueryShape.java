@@ -0,0 +1,9 @@
+package com.project.backend.model;
+
+/**
+ * The statistics of every statement sharing one fingerprint, that is the same SQL once literals
+ * and bind parameters are left out.
+ */
+public record QueryShape(String fingerprint, long count, double totalMillis, double meanMillis,
+    double maxMillis) {
+}
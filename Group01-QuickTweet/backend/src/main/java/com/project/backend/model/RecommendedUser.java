@@ -0,0 +1,7 @@
+package com.project.backend.model;
+
+/**
+ * A user as shown on a friend recommendation card, without contact details.
+ */
+public record RecommendedUser(Long id, String username, String photo) {
+}
@@ -0,0 +1,10 @@
+package com.project.backend.model;
+
+import java.util.Set;
+
+/**
+ * The account requests an admin decides on in one call. A username may only appear in one of the
+ * two sets.
+ */
+public record RequestBatch(Set<String> approve, Set<String> reject) {
+}
@@ -0,0 +1,11 @@
+package com.project.backend.model;
+
+/**
+ * What happened to one account request of a {@link RequestBatch}.
+ */
+public record RequestDecision(String username, Outcome outcome) {
+
+  public enum Outcome {
+    APPROVED, REJECTED, ALREADY_HANDLED, NOT_FOUND
+  }
+}
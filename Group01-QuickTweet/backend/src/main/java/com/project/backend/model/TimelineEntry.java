@@ -0,0 +1,72 @@
+package com.project.backend.model;
+
+import java.sql.Timestamp;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A post delivered to a user's timeline inbox. Entries only hold ids so that deleting a post or a
+ * user never has to wait for the timelines that reference them; readers join back to the post.
+ */
+@Entity
+@Table(name = "TIMELINE_ENTRY",
+    uniqueConstraints = @UniqueConstraint(name = "UK_TIMELINE_OWNER_POST",
+        columnNames = {"OWNER_ID", "POST_ID"}),
+    indexes = {
+        @Index(name = "IDX_TIMELINE_OWNER_CREATE_DATE",
+            columnList = "OWNER_ID, CREATE_DATE, POST_ID"),
+        @Index(name = "IDX_TIMELINE_OWNER_AUTHOR", columnList = "OWNER_ID, AUTHOR_ID"),
+        @Index(name = "IDX_TIMELINE_AUTHOR", columnList = "AUTHOR_ID"),
+        @Index(name = "IDX_TIMELINE_POST", columnList = "POST_ID")})
+public class TimelineEntry {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "OWNER_ID", nullable = false)
+  private Long ownerId;
+
+  @Column(name = "POST_ID", nullable = false)
+  private Long postId;
+
+  @Column(name = "AUTHOR_ID", nullable = false)
+  private Long authorId;
+
+  @Column(name = "CREATE_DATE", nullable = false)
+  private Timestamp createDate;
+
+  public TimelineEntry(Long ownerId, Post post) {
+    this.ownerId = ownerId;
+    this.postId = post.getId();
+    this.authorId = post.getUser().getId();
+    this.createDate = post.getCreateDate();
+  }
+
+  public TimelineEntry() {}
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getOwnerId() {
+    return ownerId;
+  }
+
+  public Long getPostId() {
+    return postId;
+  }
+
+  public Long getAuthorId() {
+    return authorId;
+  }
+
+  public Timestamp getCreateDate() {
+    return createDate;
+  }
+}
@@ -0,0 +1,8 @@
+package com.project.backend.model;
+
+/**
+ * Fan-out counters of the timeline service since startup.
+ */
+public record TimelineStats(int celebrityThreshold, long pushedEntries, long pulledPosts,
+    long mergedReads) {
+}
@@ -0,0 +1,7 @@
+package com.project.backend.model;
+
+/**
+ * A user as listed to other users, in friend lists and search results.
+ */
+public record UserCard(Long id, String username, String status) {
+}
@@ -0,0 +1,8 @@
+package com.project.backend.model;
+
+/**
+ * The fields of a user needed to check a login, read without loading the rest of the entity.
+ */
+public record UserCredentials(Long id, String username, String password, String role,
+    boolean pendingRequest) {
+}
@@ -0,0 +1,7 @@
+package com.project.backend.model;
+
+/**
+ * A user as listed to admins, with the fields needed to manage the account.
+ */
+public record UserListing(Long id, String username, String email, String role) {
+}
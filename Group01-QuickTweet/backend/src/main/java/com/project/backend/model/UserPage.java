@@ -0,0 +1,10 @@
+package com.project.backend.model;
+
+import java.util.List;
+
+/**
+ * One page of a user listing. {@code total} is the number of users in the listing across all
+ * pages.
+ */
+public record UserPage(List<UserListing> users, int page, int size, long total) {
+}
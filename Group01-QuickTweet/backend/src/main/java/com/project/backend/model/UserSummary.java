@@ -0,0 +1,12 @@
+package com.project.backend.model;
+
+/**
+ * The public fields of a user, without credentials, interests or relationships, so that building
+ * one never loads a lazy collection.
+ */
+public record UserSummary(Long id, String username, String email, String photo) {
+
+  public static UserSummary from(AppUser user) {
+    return new UserSummary(user.getId(), user.getUsername(), user.getEmail(), user.getPhoto());
+  }
+}
@@ -1,7 +1,13 @@
 package com.project.backend.repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.backend.model.AppUser;
@@ -12,4 +18,46 @@ public interface PostRepository extends JpaRepository<Post, Long> {
   List<Post> findByUser(AppUser user);
 
   List<Post> findByUserUsernameInOrderByCreateDateDesc(List<String> usernames);
+
+  @Query("select p from Post p join fetch p.user where p.user.id in :userIds "
+      + "order by p.createDate desc, p.id desc")
+  List<Post> findFeedPage(@Param("userIds") Collection<Long> userIds, Limit limit);
+
+  @Query("select p from Post p join fetch p.user where p.user.id in :userIds "
+      + "and (p.createDate < :createDate or (p.createDate = :createDate and p.id < :id)) "
+      + "order by p.createDate desc, p.id desc")
+  List<Post> findFeedPageBefore(@Param("userIds") Collection<Long> userIds,
+      @Param("createDate") Timestamp createDate, @Param("id") Long id, Limit limit);
+
+  @Query("select p from Post p join fetch p.user where p.pulled = true and p.user.id in "
+      + "(select f.id from AppUser u join u.friends f where u.id = :ownerId) "
+      + "order by p.createDate desc, p.id desc")
+  List<Post> findPulledFeedPage(@Param("ownerId") Long ownerId, Limit limit);
+
+  @Query("select p from Post p join fetch p.user where p.pulled = true and p.user.id in "
+      + "(select f.id from AppUser u join u.friends f where u.id = :ownerId) "
+      + "and (p.createDate < :createDate or (p.createDate = :createDate and p.id < :id)) "
+      + "order by p.createDate desc, p.id desc")
+  List<Post> findPulledFeedPageBefore(@Param("ownerId") Long ownerId,
+      @Param("createDate") Timestamp createDate, @Param("id") Long id, Limit limit);
+
+  @Query("select p from Post p join fetch p.user where p.id in :ids")
+  List<Post> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select p from Post p join fetch p.user where p.id > :id order by p.id")
+  List<Post> findWithUserAfter(@Param("id") Long id, Limit limit);
+
+  @Query("select p.id from Post p where p.user.id = :userId")
+  List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+  @Modifying(clearAutomatically = true)
+  @Query("delete from Post p where p.user.id = :userId")
+  int deleteByUserId(@Param("userId") Long userId);
+
+  @Query("select p.id from Post p where p.user.id in :userIds")
+  List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+  @Modifying(clearAutomatically = true)
+  @Query("delete from Post p where p.user.id in :userIds")
+  int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
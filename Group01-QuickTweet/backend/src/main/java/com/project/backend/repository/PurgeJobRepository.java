@@ -0,0 +1,51 @@
+package com.project.backend.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.project.backend.model.PurgeJob;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Long> {
+  Optional<PurgeJob> findFirstByStatusOrderById(PurgeJob.Status status);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select j from PurgeJob j where j.id = :jobId and j.status = :status")
+  Optional<PurgeJob> findForUpdate(@Param("jobId") Long jobId,
+      @Param("status") PurgeJob.Status status);
+
+  @Query("select u from PurgeJob j join j.remainingUserIds u where j.id = :jobId order by u")
+  List<Long> findRemainingUserIds(@Param("jobId") Long jobId, Limit limit);
+
+  @Query("select count(u) from PurgeJob j join j.remainingUserIds u where j.id = :jobId")
+  long countRemainingUserIds(@Param("jobId") Long jobId);
+
+  @Modifying
+  @Query(value = "delete from purge_job_user where job_id = :jobId and user_id in :userIds",
+      nativeQuery = true)
+  int deleteRemainingUserIds(@Param("jobId") Long jobId,
+      @Param("userIds") Collection<Long> userIds);
+
+  @Modifying
+  @Query("update PurgeJob j set j.deleted = j.deleted + :deleted, j.missing = j.missing + :missing, "
+      + "j.failed = j.failed + :failed, j.updateDate = :now where j.id = :jobId")
+  int recordProgress(@Param("jobId") Long jobId, @Param("deleted") int deleted,
+      @Param("missing") int missing, @Param("failed") int failed, @Param("now") Timestamp now);
+
+  @Modifying
+  @Query("update PurgeJob j set j.status = :status, j.error = :error, j.updateDate = :now "
+      + "where j.id = :jobId")
+  int updateStatus(@Param("jobId") Long jobId, @Param("status") PurgeJob.Status status,
+      @Param("error") String error, @Param("now") Timestamp now);
+}
@@ -0,0 +1,89 @@
+package com.project.backend.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.project.backend.model.Post;
+import com.project.backend.model.TimelineEntry;
+
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntry, Long> {
+
+  @Query("select p from TimelineEntry t join Post p on p.id = t.postId join fetch p.user "
+      + "where t.ownerId = :ownerId order by t.createDate desc, t.postId desc")
+  List<Post> findTimeline(@Param("ownerId") Long ownerId, Limit limit);
+
+  @Query("select p from TimelineEntry t join Post p on p.id = t.postId join fetch p.user "
+      + "where t.ownerId = :ownerId and (t.createDate < :createDate "
+      + "or (t.createDate = :createDate and t.postId < :postId)) "
+      + "order by t.createDate desc, t.postId desc")
+  List<Post> findTimelineBefore(@Param("ownerId") Long ownerId,
+      @Param("createDate") Timestamp createDate, @Param("postId") Long postId, Limit limit);
+
+  @Query(value = "SELECT count(*) FROM (SELECT 1 FROM friends f WHERE f.friend_id = :authorId "
+      + "LIMIT :limit) t", nativeQuery = true)
+  int countFollowersUpTo(@Param("authorId") Long authorId, @Param("limit") int limit);
+
+  @Query(value = "SELECT f.user_id FROM friends f WHERE f.friend_id = :authorId",
+      nativeQuery = true)
+  List<Long> findFollowerIds(@Param("authorId") Long authorId);
+
+  /**
+   * Copies a new post into the inbox of every user who has its author as a friend.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO timeline_entry (owner_id, post_id, author_id, create_date) "
+      + "SELECT f.user_id, :postId, :authorId, :createDate FROM friends f "
+      + "WHERE f.friend_id = :authorId", nativeQuery = true)
+  int fanOut(@Param("postId") Long postId, @Param("authorId") Long authorId,
+      @Param("createDate") Timestamp createDate);
+
+  /**
+   * Copies the newest pushed posts of an author into a user's inbox, skipping the ones already
+   * there.
+   */
+  @Modifying
+  @Query(value = "INSERT INTO timeline_entry (owner_id, post_id, author_id, create_date) "
+      + "SELECT :ownerId, p.id, p.user_id, p.create_date FROM post p "
+      + "WHERE p.user_id = :authorId AND p.pulled = false "
+      + "AND NOT EXISTS (SELECT 1 FROM timeline_entry t "
+      + "WHERE t.owner_id = :ownerId AND t.post_id = p.id) "
+      + "ORDER BY p.create_date DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+  int backfill(@Param("ownerId") Long ownerId, @Param("authorId") Long authorId,
+      @Param("limit") int limit);
+
+  @Query("select t from TimelineEntry t where t.ownerId = :ownerId "
+      + "order by t.createDate desc, t.postId desc")
+  List<TimelineEntry> findNewest(@Param("ownerId") Long ownerId, Pageable pageable);
+
+  @Modifying
+  @Query("delete from TimelineEntry t where t.ownerId = :ownerId and (t.createDate < :createDate "
+      + "or (t.createDate = :createDate and t.postId <= :postId))")
+  int deleteUpTo(@Param("ownerId") Long ownerId, @Param("createDate") Timestamp createDate,
+      @Param("postId") Long postId);
+
+  @Modifying
+  @Query("delete from TimelineEntry t where t.postId = :postId")
+  int deleteByPostId(@Param("postId") Long postId);
+
+  @Modifying
+  @Query("delete from TimelineEntry t where t.ownerId = :ownerId and t.authorId = :authorId")
+  int deleteByOwnerIdAndAuthorId(@Param("ownerId") Long ownerId,
+      @Param("authorId") Long authorId);
+
+  @Modifying
+  @Query("delete from TimelineEntry t where t.ownerId = :userId or t.authorId = :userId")
+  int deleteByUserId(@Param("userId") Long userId);
+
+  @Modifying
+  @Query("delete from TimelineEntry t where t.ownerId in :userIds or t.authorId in :userIds")
+  int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
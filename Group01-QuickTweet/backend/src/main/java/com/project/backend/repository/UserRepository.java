@@ -2,10 +2,23 @@ package com.project.backend.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.backend.model.AppUser;
+import com.project.backend.model.CachedUser;
+import com.project.backend.model.RecommendedUser;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserCredentials;
+import com.project.backend.model.UserListing;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -16,8 +29,112 @@ public interface UserRepository extends JpaRepository<AppUser, Long> {
 
   Optional<AppUser> findByUsername(String username);
 
+  @Query("select new com.project.backend.model.UserCredentials(u.id, u.username, u.password, "
+      + "u.role, u.pendingRequest) from AppUser u where u.username = :username")
+  Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
+  @Query("select new com.project.backend.model.CachedUser(u.id, u.username, u.role, u.status, "
+      + "u.pendingRequest) from AppUser u where u.username = :username")
+  Optional<CachedUser> findCachedByUsername(@Param("username") String username);
+
   List<AppUser> findByInterestsIn(Set<String> interests);
 
   List<AppUser> findByUsernameContainingIgnoreCase(String username);
 
+  List<AppUser> findByPendingRequestFalseAndIdGreaterThanOrderById(Long id, Limit limit);
+
+  @Query("select new com.project.backend.model.UserListing(u.id, u.username, u.email, u.role) "
+      + "from AppUser u where u.pendingRequest = false")
+  List<UserListing> findListings(Pageable pageable);
+
+  @Query("select new com.project.backend.model.UserListing(u.id, u.username, u.email, u.role) "
+      + "from AppUser u where u.pendingRequest = true")
+  List<UserListing> findPendingListings(Pageable pageable);
+
+  long countByPendingRequestTrue();
+
+  long countByPendingRequestFalse();
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select u from AppUser u where u.username = :username and u.pendingRequest = true")
+  Optional<AppUser> findPendingForUpdate(@Param("username") String username);
+
+  @Query(value = "select id, username from app_user where username in :usernames "
+      + "and pending_request = true for update", nativeQuery = true)
+  List<Object[]> lockPendingByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+  @Query("select u.id, u.username from AppUser u where u.id in :ids")
+  List<Object[]> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select u.username from AppUser u where u.username in :usernames")
+  List<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update AppUser u set u.pendingRequest = false where u.id in :ids")
+  int approveByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Modifying(flushAutomatically = true)
+  @Query(value = "delete from friend_requests where user_id in :ids or friend_id in :ids",
+      nativeQuery = true)
+  int deleteFriendRequestsByUserIdIn(@Param("ids") Collection<Long> ids);
+
+  @Modifying(clearAutomatically = true)
+  @Query("delete from AppUser u where u.id in :ids")
+  int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select new com.project.backend.model.UserCard(f.id, f.username, f.status) "
+      + "from AppUser u join u.friends f where u.id = :userId order by f.username")
+  List<UserCard> findFriendCards(@Param("userId") Long userId);
+
+  @Query("select new com.project.backend.model.UserCard(u.id, u.username, u.status) "
+      + "from AppUser u where u.id in :ids")
+  List<UserCard> findCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select new com.project.backend.model.RecommendedUser(u.id, u.username, u.photo) "
+      + "from AppUser u where u.id in :ids and u.pendingRequest = false")
+  List<RecommendedUser> findRecommendedByIdIn(@Param("ids") Collection<Long> ids);
+
+  @Query("select i from AppUser u join u.interests i where u.id = :userId")
+  Set<String> findInterests(@Param("userId") Long userId);
+
+  @Query("select u.id, i from AppUser u join u.interests i where u.id in :userIds")
+  List<Object[]> findInterestsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+  @Query(value = "select user_id, friend_id from friends where user_id > :userId "
+      + "or (user_id = :userId and friend_id > :friendId) order by user_id, friend_id "
+      + "limit :limit", nativeQuery = true)
+  List<Object[]> findFriendshipsAfter(@Param("userId") Long userId,
+      @Param("friendId") Long friendId, @Param("limit") int limit);
+
+  @Modifying(flushAutomatically = true)
+  @Query(value = "delete from friends where user_id = :userId or friend_id = :userId",
+      nativeQuery = true)
+  int deleteFriendships(@Param("userId") Long userId);
+
+  @Modifying(flushAutomatically = true)
+  @Query(value = "delete from friends where user_id in :ids or friend_id in :ids",
+      nativeQuery = true)
+  int deleteFriendshipsByUserIdIn(@Param("ids") Collection<Long> ids);
+
+  @Modifying
+  @Query(value = "delete from friend_requests where user_id = :userId or friend_id = :userId",
+      nativeQuery = true)
+  int deleteFriendRequests(@Param("userId") Long userId);
+
+  @Query("select f.id from AppUser u join u.friends f where u.id = :userId")
+  List<Long> findFriendIds(@Param("userId") Long userId);
+
+  @Query("select f.username from AppUser u join u.friends f where u.id = :userId")
+  List<String> findFriendUsernames(@Param("userId") Long userId);
+
+  @Query("select u.id from AppUser u where u.id in :ids "
+      + "and lower(u.username) like lower(concat('%', :username, '%'))")
+  List<Long> findIdsByUsernameContaining(@Param("ids") Collection<Long> ids,
+      @Param("username") String username);
+
+  @Query("select distinct u.id from AppUser u join u.interests i where u.id in :ids "
+      + "and lower(i) like lower(concat('%', :interest, '%'))")
+  List<Long> findIdsByInterestContaining(@Param("ids") Collection<Long> ids,
+      @Param("interest") String interest);
+
 }
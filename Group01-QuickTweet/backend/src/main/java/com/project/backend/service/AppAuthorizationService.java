@@ -1,16 +1,19 @@
 package com.project.backend.service;
 
-import java.util.Set;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
-import com.project.backend.model.AppUser;
-import jakarta.persistence.EntityNotFoundException;
+import com.project.backend.model.RequestBatch;
+import com.project.backend.model.RequestDecision;
+import com.project.backend.model.UserPage;
 
 public interface AppAuthorizationService {
-  public Set<AppUser> getPendingRequests(String username) throws EntityNotFoundException;
+  public UserPage getPendingRequests(String username, int page, int size)
+      throws SecurityException;
 
-  public ResponseEntity<String> approvePendingRequest(String username)
-      throws EntityNotFoundException;
+  public ResponseEntity<String> approvePendingRequest(String username);
 
-  public ResponseEntity<String> rejectPendingRequest(String username)
-      throws EntityNotFoundException;
+  public ResponseEntity<String> rejectPendingRequest(String username);
+
+  public List<RequestDecision> decidePendingRequests(String username, RequestBatch batch)
+      throws SecurityException, IllegalArgumentException;
 }
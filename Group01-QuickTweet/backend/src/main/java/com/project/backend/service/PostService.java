@@ -1,6 +1,8 @@
 package com.project.backend.service;
 
+import com.project.backend.model.FeedPage;
 import com.project.backend.model.Post;
+import com.project.backend.model.PostView;
 
 import java.util.List;
 
@@ -11,6 +13,11 @@ public interface PostService {
 
     List<Post> getPostByUsername(String username);
 
+    FeedPage getFeed(String username, String cursor, int size) throws IllegalArgumentException;
+
+    List<PostView> searchFeed(String username, String query, String author, String interest,
+        int limit);
+
     Post updatePost(String newContent, Long postID);
 
     String deletePost(Long postID);
@@ -0,0 +1,20 @@
+package com.project.backend.service;
+
+import java.util.Set;
+
+import com.project.backend.model.PurgeProgress;
+
+import jakarta.persistence.EntityNotFoundException;
+
+public interface PurgeService {
+  PurgeProgress startPurge(String adminUsername, Set<Long> userIds)
+      throws SecurityException, IllegalArgumentException;
+
+  PurgeProgress getProgress(String adminUsername, Long jobId)
+      throws SecurityException, EntityNotFoundException;
+
+  PurgeProgress resumePurge(String adminUsername, Long jobId)
+      throws SecurityException, EntityNotFoundException, IllegalStateException;
+
+  boolean processNextChunk();
+}
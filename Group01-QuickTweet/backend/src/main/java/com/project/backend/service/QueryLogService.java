@@ -0,0 +1,10 @@
+package com.project.backend.service;
+
+import java.util.List;
+
+import com.project.backend.model.QueryShape;
+
+public interface QueryLogService {
+  List<QueryShape> getSlowestQueries(String adminUsername, int limit, String sort)
+      throws SecurityException, IllegalArgumentException;
+}
@@ -0,0 +1,15 @@
+package com.project.backend.service;
+
+import java.util.List;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.project.backend.model.FriendRecommendation;
+
+public interface RecommendationService {
+  List<FriendRecommendation> getRecommendations(String username, int limit)
+      throws UsernameNotFoundException;
+
+  void invalidateFriendship(Long userId, Long friendId);
+
+  void invalidateUser(Long userId);
+}
@@ -0,0 +1,31 @@
+package com.project.backend.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.project.backend.model.FeedCursor;
+import com.project.backend.model.Post;
+import com.project.backend.model.TimelineStats;
+
+public interface TimelineService {
+  void fanOut(Post post);
+
+  void removePost(Long postId);
+
+  void follow(Long ownerId, Long authorId);
+
+  void unfollow(Long ownerId, Long authorId);
+
+  void removeUser(Long userId);
+
+  void removeUsers(Collection<Long> userIds);
+
+  List<Post> getTimeline(Long ownerId, FeedCursor cursor, int limit);
+
+  void trimInboxes();
+
+  TimelineStats getStats(String adminUsername) throws SecurityException;
+
+  TimelineStats updateCelebrityThreshold(String adminUsername, int threshold)
+      throws SecurityException, IllegalArgumentException;
+}
@@ -1,11 +1,15 @@
 package com.project.backend.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import com.project.backend.model.AppUser;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserPage;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
@@ -13,7 +17,7 @@ import jakarta.persistence.EntityNotFoundException;
 public interface UserService {
   AppUser createUser(AppUser user) throws EntityExistsException;
 
-  List<AppUser> getAllUsers();
+  UserPage getAllUsers(int page, int size, String sort) throws IllegalArgumentException;
 
   String getSecurityQuestion(String username) throws UsernameNotFoundException;
 
@@ -30,6 +34,8 @@ public interface UserService {
 
   AppUser deleteUser(String username) throws EntityNotFoundException;
 
+  int deleteUsers(Collection<Long> ids);
+
   String getUserStatus(String username) throws UsernameNotFoundException;
 
   String updateUserStatus(String username, String status) throws Exception;
@@ -39,16 +45,26 @@ public interface UserService {
 
   String addFriendRequest(String username, String friendUsername) throws Exception;
 
-  Set<AppUser> getFriends(String username) throws UsernameNotFoundException;
+  List<UserCard> getFriends(String username) throws UsernameNotFoundException;
 
   List<AppUser> getFriendRequests(String username) throws UsernameNotFoundException;
 
   String deleteFriend(String username, String friendUsername) throws Exception;
 
-  List<AppUser> getUserByInterests(Set<String> interests);
+  List<UserCard> getUserByInterests(Set<String> interests);
 
   ResponseEntity<String> updateUserRole(Long id, String adminUsername) throws SecurityException;
 
-  List<AppUser> searchUsers(String query);
+  List<UserCard> queryInterests(Set<String> all, Set<String> any, Set<String> none, int limit);
+
+  long countByInterests(Set<String> all, Set<String> any, Set<String> none);
+
+  Map<String, Integer> getInterestCounts();
+
+  List<UserCard> searchUsers(String query);
+
+  List<UserCard> searchUsers(String query, int limit);
+
+  List<String> suggestUsernames(String query, int limit);
 
 }
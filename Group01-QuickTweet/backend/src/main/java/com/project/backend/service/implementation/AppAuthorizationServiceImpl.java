@@ -1,76 +1,217 @@
 package com.project.backend.service.implementation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import com.project.backend.model.AppAuthorization;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.backend.cache.UserCache;
+import com.project.backend.index.InterestIndex;
+import com.project.backend.index.UsernameIndex;
 import com.project.backend.model.AppUser;
-import com.project.backend.repository.AppAuthorizationRepository;
+import com.project.backend.model.RequestBatch;
+import com.project.backend.model.RequestDecision;
+import com.project.backend.model.RequestDecision.Outcome;
+import com.project.backend.model.UserPage;
 import com.project.backend.repository.UserRepository;
 import com.project.backend.service.AppAuthorizationService;
-import jakarta.persistence.EntityNotFoundException;
 
+/**
+ * Approves and rejects account requests. A request is the user row itself, flagged as pending, so
+ * registrations never write to a shared row and deciding on one request only locks that user.
+ *
+ * <p>
+ * A batch of decisions is applied with set-based statements, a chunk of usernames at a time, so
+ * the number of statements grows with the number of chunks rather than the number of users. Bulk
+ * statements bypass the entity listener, so the batch keeps the user indexes in sync itself.
+ */
 @Service
+@Timed(value = "service.method", histogram = true)
 public class AppAuthorizationServiceImpl implements AppAuthorizationService {
-  private final AppAuthorizationRepository appAuthorizationRepository;
+  static final int MAX_PAGE_SIZE = 100;
+  static final int CHUNK_SIZE = 1000;
+
   private final UserRepository userRepository;
-  private final Long AppId = 1L;
+  private final InterestIndex interestIndex;
+  private final UsernameIndex usernameIndex;
+  private final UserCache userCache;
+  private final int maxBatch;
 
-  public AppAuthorizationServiceImpl(AppAuthorizationRepository appAuthorizationRepository,
-      UserRepository userRepository) {
-    this.appAuthorizationRepository = appAuthorizationRepository;
+  public AppAuthorizationServiceImpl(UserRepository userRepository, InterestIndex interestIndex,
+      UsernameIndex usernameIndex, UserCache userCache,
+      @Value("${quicktweet.requests.max-batch:10000}") int maxBatch) {
     this.userRepository = userRepository;
+    this.interestIndex = interestIndex;
+    this.usernameIndex = usernameIndex;
+    this.userCache = userCache;
+    this.maxBatch = maxBatch;
   }
 
   @Override
-  public Set<AppUser> getPendingRequests(String username) throws EntityNotFoundException {
-    userRepository.findByUsername(username).filter(user -> user.getRole().equals("ADMIN"))
+  public UserPage getPendingRequests(String username, int page, int size)
+      throws SecurityException {
+    userCache.get(username).filter(user -> user.isAdmin())
         .orElseThrow(() -> new SecurityException("User is not authorized to access this."));
 
-    AppAuthorization app = appAuthorizationRepository.findById(AppId)
-        .orElseThrow(() -> new EntityNotFoundException("App instance has not been created."));
-    return app.getPendingRequests();
+    page = Math.max(0, page);
+    size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    return new UserPage(
+        userRepository.findPendingListings(PageRequest.of(page, size, Sort.by("id"))), page,
+        size, userRepository.countByPendingRequestTrue());
   }
 
   @Override
-  public ResponseEntity<String> approvePendingRequest(String username)
-      throws EntityNotFoundException {
-
-    Optional<AppUser> optUser = userRepository.findByUsername(username);
+  @Transactional
+  public ResponseEntity<String> approvePendingRequest(String username) {
+    Optional<AppUser> optUser = userRepository.findPendingForUpdate(username);
     if (!optUser.isPresent()) {
-      return ResponseEntity.badRequest().body("User does not exist.");
+      return notPending(username);
     }
 
     AppUser user = optUser.get();
-
-    AppAuthorization app = appAuthorizationRepository.findById(AppId)
-        .orElseThrow(() -> new EntityNotFoundException("App instance has not been created."));
-
     user.setPendingRequest(false);
-    app.deletePendingRequest(user);
     userRepository.save(user);
-    appAuthorizationRepository.save(app);
+    userCache.invalidate(username);
+    interestIndex.update(user.getId(), userRepository.findInterests(user.getId()), true);
     return ResponseEntity.ok("User request has been approved.");
   }
 
   @Override
-  public ResponseEntity<String> rejectPendingRequest(String username)
-      throws EntityNotFoundException {
-    Optional<AppUser> optUser = userRepository.findByUsername(username);
+  @Transactional
+  public ResponseEntity<String> rejectPendingRequest(String username) {
+    Optional<AppUser> optUser = userRepository.findPendingForUpdate(username);
     if (!optUser.isPresent()) {
-      return ResponseEntity.badRequest().body("User does not exist.");
+      return notPending(username);
     }
 
-    AppUser user = optUser.get();
+    userRepository.deleteFriendRequests(optUser.get().getId());
+    userRepository.delete(optUser.get());
+    userCache.invalidate(username);
+    return ResponseEntity.ok("User request has been rejected");
+  }
 
-    AppAuthorization app = appAuthorizationRepository.findById(AppId)
-        .orElseThrow(() -> new EntityNotFoundException("App instance has not been created."));
+  /**
+   * Approves and rejects a batch of account requests in one transaction. The pending users are
+   * locked in username order, so two admins deciding on overlapping batches cannot deadlock.
+   */
+  @Override
+  @Transactional
+  public List<RequestDecision> decidePendingRequests(String username, RequestBatch batch)
+      throws SecurityException, IllegalArgumentException {
+    userCache.get(username).filter(user -> user.isAdmin())
+        .orElseThrow(() -> new SecurityException("User is not authorized to access this."));
 
+    Set<String> approve = batch.approve() == null ? Set.of() : batch.approve();
+    Set<String> reject = batch.reject() == null ? Set.of() : batch.reject();
+    if (approve.isEmpty() && reject.isEmpty()) {
+      throw new IllegalArgumentException("No requests to decide on.");
+    }
+    if (approve.size() + reject.size() > maxBatch) {
+      throw new IllegalArgumentException("Cannot decide on more than " + maxBatch
+          + " requests at once.");
+    }
+    if (!Collections.disjoint(approve, reject)) {
+      throw new IllegalArgumentException("A request cannot be both approved and rejected.");
+    }
 
-    app.deletePendingRequest(user);
-    appAuthorizationRepository.save(app);
-    userRepository.delete(user);
-    return ResponseEntity.ok("User request has been rejected");
+    TreeSet<String> usernames = new TreeSet<>(approve);
+    usernames.addAll(reject);
+    List<RequestDecision> decisions = new ArrayList<>(usernames.size());
+    for (List<String> chunk : chunks(usernames)) {
+      Map<String, Long> pending = new HashMap<>();
+      for (Object[] row : userRepository.lockPendingByUsernameIn(chunk)) {
+        pending.put((String) row[1], ((Number) row[0]).longValue());
+      }
+
+      Map<Long, String> approved = new HashMap<>();
+      Map<Long, String> rejected = new HashMap<>();
+      List<String> handled = new ArrayList<>();
+      for (String name : chunk) {
+        Long id = pending.get(name);
+        if (id == null) {
+          handled.add(name);
+        } else if (approve.contains(name)) {
+          approved.put(id, name);
+        } else {
+          rejected.put(id, name);
+        }
+      }
+
+      approveAll(approved);
+      rejectAll(rejected);
+      approved.values()
+          .forEach(name -> decisions.add(new RequestDecision(name, Outcome.APPROVED)));
+      rejected.values()
+          .forEach(name -> decisions.add(new RequestDecision(name, Outcome.REJECTED)));
+      if (!handled.isEmpty()) {
+        Set<String> existing = new HashSet<>(userRepository.findUsernamesIn(handled));
+        handled.forEach(name -> decisions.add(new RequestDecision(name,
+            existing.contains(name) ? Outcome.ALREADY_HANDLED : Outcome.NOT_FOUND)));
+      }
+    }
+    return decisions;
+  }
+
+  private void approveAll(Map<Long, String> users) {
+    if (users.isEmpty()) {
+      return;
+    }
+
+    userRepository.approveByIdIn(users.keySet());
+    Map<Long, Set<String>> interests = new HashMap<>();
+    for (Object[] row : userRepository.findInterestsByUserIdIn(users.keySet())) {
+      interests.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+    }
+    users.forEach((id, name) -> {
+      usernameIndex.update(id, name, true);
+      interestIndex.update(id, interests.get(id), true);
+      userCache.invalidate(name);
+    });
+  }
+
+  private void rejectAll(Map<Long, String> users) {
+    if (users.isEmpty()) {
+      return;
+    }
+
+    // the bulk delete clears the collection tables the user owns, but not the requests other
+    // users sent them
+    userRepository.deleteFriendRequestsByUserIdIn(users.keySet());
+    userRepository.deleteByIdIn(users.keySet());
+    users.values().forEach(userCache::invalidate);
+  }
+
+  private static List<List<String>> chunks(TreeSet<String> usernames) {
+    List<List<String>> chunks = new ArrayList<>();
+    List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+    for (String name : usernames) {
+      chunk.add(name);
+      if (chunk.size() == CHUNK_SIZE) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+      }
+    }
+    if (!chunk.isEmpty()) {
+      chunks.add(chunk);
+    }
+    return chunks;
+  }
+
+  private ResponseEntity<String> notPending(String username) {
+    if (userCache.get(username).isEmpty()) {
+      return ResponseEntity.badRequest().body("User does not exist.");
+    }
+    return ResponseEntity.badRequest().body("User request has already been handled.");
   }
 }
@@ -1,28 +1,59 @@
 package com.project.backend.service.implementation;
 
+import com.project.backend.cache.FeedCache;
+import com.project.backend.cache.UserCache;
+import com.project.backend.index.FriendGraph;
+import com.project.backend.index.PostIndex;
 import com.project.backend.model.AppUser;
+import com.project.backend.model.CachedUser;
+import com.project.backend.model.FeedCursor;
+import com.project.backend.model.FeedPage;
 import com.project.backend.model.Post;
+import com.project.backend.model.PostView;
 import com.project.backend.repository.PostRepository;
 import com.project.backend.repository.UserRepository;
 import com.project.backend.service.PostService;
+import com.project.backend.service.TimelineService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 public class PostServiceImplementation implements PostService {
+  static final int MAX_FEED_PAGE_SIZE = 50;
+  private static final Comparator<Post> NEWEST_FIRST =
+      Comparator.comparing(Post::getCreateDate).thenComparing(Post::getId).reversed();
   private final PostRepository postRepository;
   private final UserRepository userRepository;
+  private final TimelineService timelineService;
+  private final FeedCache feedCache;
+  private final PostIndex postIndex;
+  private final UserCache userCache;
+  private final FriendGraph friendGraph;
 
-  public PostServiceImplementation(PostRepository postRepository, UserRepository userRepository) {
+  public PostServiceImplementation(PostRepository postRepository, UserRepository userRepository,
+      TimelineService timelineService, FeedCache feedCache, PostIndex postIndex,
+      UserCache userCache, FriendGraph friendGraph) {
     this.postRepository = postRepository;
     this.userRepository = userRepository;
+    this.timelineService = timelineService;
+    this.feedCache = feedCache;
+    this.postIndex = postIndex;
+    this.userCache = userCache;
+    this.friendGraph = friendGraph;
   }
 
   @Override
+  @Transactional
   public Post createPost(String username, Post post) {
     if (post == null || post.getContent().isEmpty()) {
       return null;
@@ -37,6 +68,12 @@ public class PostServiceImplementation implements PostService {
     post.setCreateDate(new Timestamp(currentTimeMillis));
     post.setUser(optUser.get());
     postRepository.save(post);
+    timelineService.fanOut(post);
+    postIndex.index(post);
+    // friends merge pulled posts into their feeds when they next load them
+    long[] friendIds =
+        post.isPulled() ? new long[0] : friendGraph.neighbors(post.getUser().getId());
+    feedCache.addPost(PostView.from(post), friendIds);
     return post;
   }
 
@@ -55,13 +92,12 @@ public class PostServiceImplementation implements PostService {
       return null;
     }
 
-    Optional<AppUser> optUser = userRepository.findByUsername(username);
+    Optional<CachedUser> optUser = userCache.get(username);
     if (!optUser.isPresent()) {
       return null;
     }
 
-    List<String> friendUsernames =
-        optUser.get().getFriends().stream().map(user -> user.getUsername()).toList();
+    List<String> friendUsernames = userRepository.findFriendUsernames(optUser.get().id());
     List<String> combinedUsernames = new ArrayList<>();
     combinedUsernames.add(username);
     combinedUsernames.addAll(friendUsernames);
@@ -69,6 +105,101 @@ public class PostServiceImplementation implements PostService {
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public FeedPage getFeed(String username, String cursor, int size)
+      throws IllegalArgumentException {
+    if (username.isEmpty()) {
+      return null;
+    }
+
+    Optional<CachedUser> optUser = userCache.get(username);
+    if (!optUser.isPresent()) {
+      return null;
+    }
+
+    int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+    boolean firstPage = cursor == null || cursor.isEmpty();
+    if (firstPage && pageSize < feedCache.getEntries()) {
+      FeedPage cached = feedCache.getFirstPage(optUser.get().id(), pageSize);
+      return cached != null ? cached : loadFirstPage(optUser.get().id(), pageSize);
+    }
+
+    FeedCursor after = cursor == null || cursor.isEmpty() ? null : FeedCursor.decode(cursor);
+
+    // fetch one extra post to find out whether there is a next page
+    List<Post> posts = loadFeed(optUser.get().id(), after, pageSize + 1);
+    return FeedPage.of(posts.stream().map(PostView::from).toList(), pageSize);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<PostView> searchFeed(String username, String query, String author, String interest,
+      int limit) {
+    Optional<CachedUser> optUser = userCache.get(username);
+    if (!optUser.isPresent()) {
+      return null;
+    }
+
+    int max = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+    List<Long> authorIds = new ArrayList<>(userRepository.findFriendIds(optUser.get().id()));
+    authorIds.add(optUser.get().id());
+    if (author != null && !author.isBlank()) {
+      authorIds = userRepository.findIdsByUsernameContaining(authorIds, author.strip());
+    }
+    if (interest != null && !interest.isBlank() && !authorIds.isEmpty()) {
+      authorIds = userRepository.findIdsByInterestContaining(authorIds, interest.strip());
+    }
+    if (authorIds.isEmpty()) {
+      return List.of();
+    }
+
+    if (PostIndex.tokenize(query).isEmpty()) {
+      return postRepository.findFeedPage(authorIds, Limit.of(max)).stream().map(PostView::from)
+          .toList();
+    }
+
+    // the index is updated before commit, so drop hits that were rolled back or changed since
+    Set<Long> authors = Set.copyOf(authorIds);
+    return postRepository.findWithUserByIdIn(postIndex.search(query, authors, max)).stream()
+        .filter(post -> authors.contains(post.getUser().getId())
+            && PostIndex.matches(query, post.getContent()))
+        .sorted(NEWEST_FIRST).map(PostView::from).toList();
+  }
+
+  private FeedPage loadFirstPage(Long userId, int pageSize) {
+    // read the version before the posts so a write that lands in between discards this load
+    long version = feedCache.version(userId);
+    List<PostView> posts = loadFeed(userId, null, feedCache.getEntries() + 1).stream()
+        .map(PostView::from).toList();
+    feedCache.put(userId, posts, version);
+    return FeedPage.of(posts.subList(0, Math.min(posts.size(), pageSize + 1)), pageSize);
+  }
+
+  private List<Post> loadFeed(Long userId, FeedCursor after, int limit) {
+    List<Post> posts = new ArrayList<>(timelineService.getTimeline(userId, after, limit));
+
+    // the inbox ran out, either because it was trimmed or because it predates these posts, so
+    // continue from the authors' posts directly
+    if (posts.size() < limit) {
+      FeedCursor from = posts.isEmpty() ? after : FeedCursor.of(posts.get(posts.size() - 1));
+      posts.addAll(findAuthorPosts(userId, from, limit - posts.size()));
+    }
+    return posts;
+  }
+
+  private List<Post> findAuthorPosts(Long userId, FeedCursor after, int limit) {
+    List<Long> authorIds = new ArrayList<>(userRepository.findFriendIds(userId));
+    authorIds.add(userId);
+
+    if (after == null) {
+      return postRepository.findFeedPage(authorIds, Limit.of(limit));
+    }
+    return postRepository.findFeedPageBefore(authorIds, after.createDate(), after.id(),
+        Limit.of(limit));
+  }
+
+  @Override
+  @Transactional
   public Post updatePost(String newContent, Long postID) {
     Optional<Post> tempPost = postRepository.findById(postID);
     if (tempPost.isEmpty()) {
@@ -77,15 +208,23 @@ public class PostServiceImplementation implements PostService {
     Post post = tempPost.get();
     post.setContent(newContent);
     postRepository.save(post);
+    postIndex.index(post);
+    feedCache.updatePost(PostView.from(post), friendGraph.neighbors(post.getUser().getId()));
     return post;
   }
 
   @Override
+  @Transactional
   public String deletePost(Long postID) {
-    if (postRepository.findById(postID).isEmpty()) {
+    Optional<Post> post = postRepository.findById(postID);
+    if (post.isEmpty()) {
       return "No such post exists";
     }
     postRepository.deleteById(postID);
+    timelineService.removePost(postID);
+    postIndex.remove(postID);
+    Long authorId = post.get().getUser().getId();
+    feedCache.removePost(postID, authorId, friendGraph.neighbors(authorId));
     return "Post deleted successfully";
   }
 }
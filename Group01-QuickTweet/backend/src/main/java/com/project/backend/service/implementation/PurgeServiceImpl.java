@@ -0,0 +1,222 @@
+package com.project.backend.service.implementation;
+
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.backend.cache.UserCache;
+import com.project.backend.model.CachedUser;
+import com.project.backend.model.PurgeJob;
+import com.project.backend.model.PurgeProgress;
+import com.project.backend.repository.PurgeJobRepository;
+import com.project.backend.service.PurgeService;
+import com.project.backend.service.UserService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Deletes accounts in bulk in the background. A job is worked through one chunk per tick, each
+ * chunk in its own transaction, so no lock is held for long and the request that started the job
+ * returns straight away. Jobs run one at a time in the order they were created.
+ *
+ * <p>
+ * Progress is written in the same transaction as the deletions, so after a crash or restart a
+ * job carries on with the accounts it had not reached. An account that cannot be deleted is
+ * skipped and counted as failed; only an error while recording progress marks the job as failed
+ * until an admin resumes it.
+ */
+@Service
+@Timed(value = "service.method", histogram = true)
+public class PurgeServiceImpl implements PurgeService {
+  private static final Logger logger = LoggerFactory.getLogger(PurgeServiceImpl.class);
+
+  private final PurgeJobRepository jobRepository;
+  private final UserService userService;
+  private final UserCache userCache;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxUsers;
+  // whether a running job may exist, so idle ticks do not query the database
+  private final AtomicBoolean pending = new AtomicBoolean(true);
+
+  public PurgeServiceImpl(PurgeJobRepository jobRepository, UserService userService,
+      UserCache userCache, PlatformTransactionManager transactionManager,
+      @Value("${quicktweet.purge.chunk-size:100}") int chunkSize,
+      @Value("${quicktweet.purge.max-users:100000}") int maxUsers) {
+    this.jobRepository = jobRepository;
+    this.userService = userService;
+    this.userCache = userCache;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxUsers = maxUsers;
+  }
+
+  @Override
+  public PurgeProgress startPurge(String adminUsername, Set<Long> userIds)
+      throws SecurityException, IllegalArgumentException {
+    CachedUser admin = checkAdmin(adminUsername);
+
+    Set<Long> ids = new HashSet<>(userIds);
+    ids.remove(null);
+    ids.remove(admin.id());
+    if (ids.isEmpty()) {
+      throw new IllegalArgumentException("No accounts to delete.");
+    }
+    if (ids.size() > maxUsers) {
+      throw new IllegalArgumentException(
+          "At most " + maxUsers + " accounts can be deleted at once.");
+    }
+
+    PurgeJob job = jobRepository.save(new PurgeJob(adminUsername, ids));
+    pending.set(true);
+    logger.info("Purge job {} of {} accounts started by {}", job.getId(), ids.size(),
+        adminUsername);
+    return PurgeProgress.of(job, ids.size());
+  }
+
+  @Override
+  public PurgeProgress getProgress(String adminUsername, Long jobId)
+      throws SecurityException, EntityNotFoundException {
+    checkAdmin(adminUsername);
+    return progress(jobId);
+  }
+
+  @Override
+  public PurgeProgress resumePurge(String adminUsername, Long jobId)
+      throws SecurityException, EntityNotFoundException, IllegalStateException {
+    checkAdmin(adminUsername);
+    PurgeProgress current = progress(jobId);
+    if (current.status() != PurgeJob.Status.FAILED) {
+      throw new IllegalStateException("Only a failed purge job can be resumed.");
+    }
+
+    transactionTemplate.executeWithoutResult(status -> jobRepository.updateStatus(jobId,
+        PurgeJob.Status.RUNNING, null, now()));
+    pending.set(true);
+    return progress(jobId);
+  }
+
+  @Scheduled(fixedDelayString = "${quicktweet.purge.interval-ms:1000}")
+  public void processPurges() {
+    if (pending.get()) {
+      processNextChunk();
+    }
+  }
+
+  /**
+   * Deletes the next chunk of accounts of the oldest running job. If the chunk fails as a whole,
+   * its accounts are retried one at a time, and any that still fail are skipped and counted so
+   * the rest of the job goes on.
+   *
+   * @return Whether a job was found to work on
+   */
+  @Override
+  public boolean processNextChunk() {
+    Optional<PurgeJob> job = jobRepository.findFirstByStatusOrderById(PurgeJob.Status.RUNNING);
+    if (job.isEmpty()) {
+      pending.set(false);
+      return false;
+    }
+
+    Long jobId = job.get().getId();
+    try {
+      transactionTemplate.executeWithoutResult(status -> purgeChunk(jobId, chunkSize));
+    } catch (RuntimeException err) {
+      logger.warn("Chunk of purge job {} failed, deleting its accounts one at a time", jobId, err);
+      purgeOneByOne(jobId);
+    }
+    return true;
+  }
+
+  private void purgeOneByOne(Long jobId) {
+    try {
+      boolean running = true;
+      for (int i = 0; i < chunkSize && running; i++) {
+        try {
+          running = transactionTemplate.execute(status -> purgeChunk(jobId, 1));
+        } catch (RuntimeException err) {
+          running = transactionTemplate.execute(status -> skipNext(jobId, err));
+        }
+      }
+    } catch (RuntimeException err) {
+      logger.error("Purge job {} failed", jobId, err);
+      transactionTemplate.executeWithoutResult(status -> jobRepository.updateStatus(jobId,
+          PurgeJob.Status.FAILED, String.valueOf(err.getMessage()), now()));
+    }
+  }
+
+  /**
+   * Deletes up to {@code size} of the job's remaining accounts. The job row is locked first, so
+   * another node working on the same job waits for this chunk to commit and then reads the
+   * accounts that are left.
+   *
+   * @return Whether the job still has accounts to delete
+   */
+  private boolean purgeChunk(Long jobId, int size) {
+    if (jobRepository.findForUpdate(jobId, PurgeJob.Status.RUNNING).isEmpty()) {
+      return false;
+    }
+
+    List<Long> chunk = jobRepository.findRemainingUserIds(jobId, Limit.of(size));
+    if (!chunk.isEmpty()) {
+      int deleted = userService.deleteUsers(chunk);
+      jobRepository.deleteRemainingUserIds(jobId, chunk);
+      jobRepository.recordProgress(jobId, deleted, chunk.size() - deleted, 0, now());
+    }
+    boolean done = chunk.size() < size || jobRepository.countRemainingUserIds(jobId) == 0;
+    if (done) {
+      complete(jobId);
+    }
+    return !done;
+  }
+
+  private boolean skipNext(Long jobId, RuntimeException err) {
+    if (jobRepository.findForUpdate(jobId, PurgeJob.Status.RUNNING).isEmpty()) {
+      return false;
+    }
+
+    List<Long> next = jobRepository.findRemainingUserIds(jobId, Limit.of(1));
+    if (!next.isEmpty()) {
+      logger.error("Purge job {} could not delete account {}", jobId, next.get(0), err);
+      jobRepository.deleteRemainingUserIds(jobId, next);
+      jobRepository.recordProgress(jobId, 0, 0, 1, now());
+    }
+    boolean done = next.isEmpty() || jobRepository.countRemainingUserIds(jobId) == 0;
+    if (done) {
+      complete(jobId);
+    }
+    return !done;
+  }
+
+  private void complete(Long jobId) {
+    jobRepository.updateStatus(jobId, PurgeJob.Status.COMPLETED, null, now());
+    logger.info("Purge job {} completed", jobId);
+  }
+
+  private PurgeProgress progress(Long jobId) throws EntityNotFoundException {
+    PurgeJob job = jobRepository.findById(jobId)
+        .orElseThrow(() -> new EntityNotFoundException("Purge job not found with id: " + jobId));
+    return PurgeProgress.of(job, jobRepository.countRemainingUserIds(jobId));
+  }
+
+  private CachedUser checkAdmin(String username) throws SecurityException {
+    return userCache.get(username).filter(user -> user.isAdmin())
+        .orElseThrow(() -> new SecurityException("User is not authorized to access this."));
+  }
+
+  private static Timestamp now() {
+    return new Timestamp(System.currentTimeMillis());
+  }
+}
@@ -0,0 +1,44 @@
+package com.project.backend.service.implementation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import com.project.backend.cache.UserCache;
+import com.project.backend.listener.QueryLog;
+import com.project.backend.model.QueryShape;
+import com.project.backend.service.QueryLogService;
+
+@Service
+@Timed(value = "service.method", histogram = true)
+public class QueryLogServiceImpl implements QueryLogService {
+  static final int MAX_LIMIT = 100;
+  private static final Map<String, Comparator<QueryShape>> SORTS =
+      Map.of("total", Comparator.comparingDouble(QueryShape::totalMillis).reversed(), "mean",
+          Comparator.comparingDouble(QueryShape::meanMillis).reversed(), "max",
+          Comparator.comparingDouble(QueryShape::maxMillis).reversed(), "count",
+          Comparator.comparingLong(QueryShape::count).reversed());
+
+  private final QueryLog queryLog;
+  private final UserCache userCache;
+
+  public QueryLogServiceImpl(QueryLog queryLog, UserCache userCache) {
+    this.queryLog = queryLog;
+    this.userCache = userCache;
+  }
+
+  @Override
+  public List<QueryShape> getSlowestQueries(String adminUsername, int limit, String sort)
+      throws SecurityException, IllegalArgumentException {
+    userCache.get(adminUsername).filter(user -> user.isAdmin())
+        .orElseThrow(() -> new SecurityException("User is not authorized to access this."));
+
+    Comparator<QueryShape> order = SORTS.get(sort);
+    if (order == null) {
+      throw new IllegalArgumentException("Unsupported sort: " + sort);
+    }
+    return queryLog.top(Math.max(1, Math.min(limit, MAX_LIMIT)), order);
+  }
+}
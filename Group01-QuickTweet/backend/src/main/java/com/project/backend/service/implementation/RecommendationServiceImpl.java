@@ -0,0 +1,157 @@
+package com.project.backend.service.implementation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.roaringbitmap.PeekableIntIterator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.cache.UserCache;
+import com.project.backend.index.FriendGraph;
+import com.project.backend.index.InterestIndex;
+import com.project.backend.model.CachedUser;
+import com.project.backend.model.FriendRecommendation;
+import com.project.backend.model.RecommendedUser;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.RecommendationService;
+
+/**
+ * Recommends friends of friends, ranked by the number of mutual friends and then by shared
+ * interests. Users with no friends yet are recommended people who share their interests instead.
+ * Everything is computed from the in-memory friend graph and interest index, and the ranked ids are
+ * cached per user until a friendship near them changes.
+ */
+@Service
+@Timed(value = "service.method", histogram = true)
+public class RecommendationServiceImpl implements RecommendationService {
+  static final int MAX_RECOMMENDATIONS = 20;
+  private static final double MUTUAL_FRIEND_WEIGHT = 1.0;
+  private static final double SHARED_INTEREST_WEIGHT = 0.5;
+  private static final int MAX_INTEREST_CANDIDATES = 1000;
+
+  private final UserRepository userRepository;
+  private final FriendGraph friendGraph;
+  private final InterestIndex interestIndex;
+  private final UserCache userCache;
+  private final Cache<Long, List<Candidate>> cache;
+
+  private record Candidate(Long id, int mutualFriends, int sharedInterests, double score) {
+  }
+
+  public RecommendationServiceImpl(UserRepository userRepository, FriendGraph friendGraph,
+      InterestIndex interestIndex, UserCache userCache,
+      @Value("${quicktweet.recommendations.cache-size:10000}") long cacheSize,
+      @Value("${quicktweet.recommendations.ttl-seconds:600}") long ttlSeconds) {
+    this.userRepository = userRepository;
+    this.friendGraph = friendGraph;
+    this.interestIndex = interestIndex;
+    this.userCache = userCache;
+    this.cache = Caffeine.newBuilder().maximumSize(cacheSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds)).build();
+  }
+
+  @Override
+  public List<FriendRecommendation> getRecommendations(String username, int limit)
+      throws UsernameNotFoundException {
+    CachedUser user = userCache.get(username)
+        .orElseThrow(() -> new UsernameNotFoundException("User does not exist."));
+
+    List<Candidate> ranked = cache.get(user.id(), this::rank).stream()
+        .limit(Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS))).toList();
+
+    // load only the cards being returned, in one query without the users' collections
+    Map<Long, RecommendedUser> users = userRepository
+        .findRecommendedByIdIn(ranked.stream().map(Candidate::id).toList()).stream()
+        .collect(Collectors.toMap(RecommendedUser::id, Function.identity()));
+    List<FriendRecommendation> recommendations = new ArrayList<>();
+    for (Candidate candidate : ranked) {
+      RecommendedUser match = users.get(candidate.id());
+      if (match != null) {
+        recommendations.add(new FriendRecommendation(match, candidate.mutualFriends(),
+            candidate.sharedInterests(), candidate.score()));
+      }
+    }
+    return recommendations;
+  }
+
+  private List<Candidate> rank(Long userId) {
+    long[] friends = friendGraph.neighbors(userId);
+    Set<String> interests = interestIndex.interestsOf(userId);
+
+    Map<Long, Integer> mutualFriends = new HashMap<>();
+    for (long friendId : friends) {
+      for (long candidateId : friendGraph.neighbors(friendId)) {
+        if (candidateId != userId && Arrays.binarySearch(friends, candidateId) < 0) {
+          mutualFriends.merge(candidateId, 1, Integer::sum);
+        }
+      }
+    }
+
+    // people sharing an interest fill up the list when there are few friends of friends
+    if (!interests.isEmpty() && mutualFriends.size() < MAX_RECOMMENDATIONS) {
+      PeekableIntIterator sharing = interestIndex.query(Set.of(), interests, Set.of())
+          .getIntIterator();
+      for (int seen = 0; sharing.hasNext() && seen < MAX_INTEREST_CANDIDATES; seen++) {
+        long candidateId = sharing.next();
+        if (candidateId != userId && Arrays.binarySearch(friends, candidateId) < 0) {
+          mutualFriends.putIfAbsent(candidateId, 0);
+        }
+      }
+    }
+
+    Comparator<Candidate> worstFirst = Comparator.comparingDouble(Candidate::score)
+        .thenComparing(Candidate::id, Comparator.reverseOrder());
+    PriorityQueue<Candidate> best = new PriorityQueue<>(worstFirst);
+    mutualFriends.forEach((candidateId, mutual) -> {
+      int shared = countShared(interests, interestIndex.interestsOf(candidateId));
+      double score = mutual * MUTUAL_FRIEND_WEIGHT + shared * SHARED_INTEREST_WEIGHT;
+      best.add(new Candidate(candidateId, mutual, shared, score));
+      if (best.size() > MAX_RECOMMENDATIONS) {
+        best.poll();
+      }
+    });
+
+    List<Candidate> ranked = new ArrayList<>(best);
+    ranked.sort(worstFirst.reversed());
+    return List.copyOf(ranked);
+  }
+
+  private static int countShared(Set<String> interests, Set<String> other) {
+    int shared = 0;
+    for (String interest : other) {
+      if (interests.contains(interest)) {
+        shared++;
+      }
+    }
+    return shared;
+  }
+
+  /**
+   * Drops the recommendations that a new or removed friendship can change: those of both users
+   * and of everyone they are friends with.
+   */
+  @Override
+  public void invalidateFriendship(Long userId, Long friendId) {
+    invalidateUser(userId);
+    invalidateUser(friendId);
+  }
+
+  @Override
+  public void invalidateUser(Long userId) {
+    cache.invalidate(userId);
+    Arrays.stream(friendGraph.neighbors(userId)).forEach(cache::invalidate);
+  }
+}
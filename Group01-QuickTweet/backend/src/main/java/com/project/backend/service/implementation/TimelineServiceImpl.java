@@ -0,0 +1,245 @@
+package com.project.backend.service.implementation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.backend.cache.UserCache;
+import com.project.backend.model.FeedCursor;
+import com.project.backend.model.Post;
+import com.project.backend.model.TimelineEntry;
+import com.project.backend.model.TimelineStats;
+import com.project.backend.repository.PostRepository;
+import com.project.backend.repository.TimelineRepository;
+import com.project.backend.service.TimelineService;
+
+/**
+ * Keeps a materialized timeline inbox per user. Posts are pushed into the inboxes of the author's
+ * friends when they are written, so reading a feed is a range scan over a single owner's entries.
+ * Inboxes are bounded: anything older than the newest {@code capacity} entries is trimmed and has
+ * to be read from the posts table instead.
+ *
+ * <p>
+ * Authors with more friends than the celebrity threshold are not pushed, since one post would
+ * write thousands of entries. Their posts are marked as pulled and merged with the inbox by
+ * creation date when a friend reads the feed. The delivery mode is stored with each post, so a
+ * post stays in feeds however the author's friend count or the threshold changes afterwards. Both
+ * the mode and the authors to pull from are read from the friends table, so every node sees
+ * friendships made through any other node.
+ */
+@Service
+@Timed(value = "service.method", histogram = true)
+public class TimelineServiceImpl implements TimelineService {
+  private static final Logger logger = LoggerFactory.getLogger(TimelineServiceImpl.class);
+  private static final Comparator<Post> NEWEST_FIRST =
+      Comparator.comparing(Post::getCreateDate).thenComparing(Post::getId).reversed();
+
+  private final TimelineRepository timelineRepository;
+  private final PostRepository postRepository;
+  private final UserCache userCache;
+  private final int capacity;
+  private final AtomicInteger celebrityThreshold;
+  private final LongAdder pushedEntries = new LongAdder();
+  private final LongAdder pulledPosts = new LongAdder();
+  private final LongAdder mergedReads = new LongAdder();
+
+  // owners this node pushed entries to since the last trim
+  private final Set<Long> touchedOwners = ConcurrentHashMap.newKeySet();
+
+  public TimelineServiceImpl(TimelineRepository timelineRepository, PostRepository postRepository,
+      UserCache userCache,
+      @Value("${quicktweet.timeline.inbox-capacity:500}") int capacity,
+      @Value("${quicktweet.timeline.celebrity-threshold:1000}") int celebrityThreshold) {
+    this.timelineRepository = timelineRepository;
+    this.postRepository = postRepository;
+    this.userCache = userCache;
+    this.capacity = capacity;
+    this.celebrityThreshold = new AtomicInteger(celebrityThreshold);
+  }
+
+  @Override
+  @Transactional
+  public void fanOut(Post post) {
+    Long authorId = post.getUser().getId();
+    timelineRepository.save(new TimelineEntry(authorId, post));
+    touchedOwners.add(authorId);
+
+    int threshold = celebrityThreshold.get();
+    if (timelineRepository.countFollowersUpTo(authorId, threshold + 1) > threshold) {
+      post.setPulled(true);
+      pulledPosts.increment();
+      return;
+    }
+
+    pushedEntries.add(timelineRepository.fanOut(post.getId(), authorId, post.getCreateDate()));
+    touchedOwners.addAll(timelineRepository.findFollowerIds(authorId));
+  }
+
+  @Override
+  @Transactional
+  public void removePost(Long postId) {
+    timelineRepository.deleteByPostId(postId);
+  }
+
+  /**
+   * Backfills the owner's inbox with the author's newest pushed posts after they become friends.
+   * The inbox is trimmed straight away, so every post of the author that did not make it in is
+   * older than the oldest entry left, and is picked up by the read-time fallback. Pulled posts are
+   * found through the friendship itself.
+   */
+  @Override
+  @Transactional
+  public void follow(Long ownerId, Long authorId) {
+    timelineRepository.backfill(ownerId, authorId, capacity);
+    trimInbox(ownerId);
+  }
+
+  @Override
+  @Transactional
+  public void unfollow(Long ownerId, Long authorId) {
+    timelineRepository.deleteByOwnerIdAndAuthorId(ownerId, authorId);
+  }
+
+  @Override
+  @Transactional
+  public void removeUser(Long userId) {
+    timelineRepository.deleteByUserId(userId);
+  }
+
+  @Override
+  @Transactional
+  public void removeUsers(Collection<Long> userIds) {
+    timelineRepository.deleteByUserIdIn(userIds);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Post> getTimeline(Long ownerId, FeedCursor cursor, int limit) {
+    List<List<Post>> sources = new ArrayList<>();
+    if (cursor == null) {
+      sources.add(timelineRepository.findTimeline(ownerId, Limit.of(limit)));
+    } else {
+      sources.add(timelineRepository.findTimelineBefore(ownerId, cursor.createDate(), cursor.id(),
+          Limit.of(limit)));
+    }
+
+    if (cursor == null) {
+      sources.add(postRepository.findPulledFeedPage(ownerId, Limit.of(limit)));
+    } else {
+      sources.add(postRepository.findPulledFeedPageBefore(ownerId, cursor.createDate(),
+          cursor.id(), Limit.of(limit)));
+    }
+    if (sources.get(1).isEmpty()) {
+      return sources.get(0);
+    }
+
+    mergedReads.increment();
+    return mergeNewestFirst(sources, limit);
+  }
+
+  /**
+   * Merges lists that are each sorted newest first into one list of at most {@code limit} posts.
+   * Posts that appear in more than one source are only kept once.
+   */
+  static List<Post> mergeNewestFirst(List<List<Post>> sources, int limit) {
+    // each queue element is {source index, position in that source}
+    PriorityQueue<int[]> heads = new PriorityQueue<>(
+        (a, b) -> NEWEST_FIRST.compare(sources.get(a[0]).get(a[1]), sources.get(b[0]).get(b[1])));
+    for (int i = 0; i < sources.size(); i++) {
+      if (!sources.get(i).isEmpty()) {
+        heads.add(new int[] {i, 0});
+      }
+    }
+
+    List<Post> merged = new ArrayList<>(limit);
+    Set<Long> seen = new HashSet<>();
+    while (!heads.isEmpty() && merged.size() < limit) {
+      int[] head = heads.poll();
+      List<Post> source = sources.get(head[0]);
+      Post post = source.get(head[1]);
+      if (seen.add(post.getId())) {
+        merged.add(post);
+      }
+      if (head[1] + 1 < source.size()) {
+        heads.add(new int[] {head[0], head[1] + 1});
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * Trims the inboxes this node pushed entries to since the last run. Fan-out does not trim
+   * inline, so a post only costs one insert per friend, and each trim is a range scan over one
+   * owner's entries rather than a scan of the whole table.
+   */
+  @Override
+  @Scheduled(fixedDelayString = "${quicktweet.timeline.trim-interval-ms:60000}")
+  @Transactional
+  public void trimInboxes() {
+    for (Iterator<Long> owners = touchedOwners.iterator(); owners.hasNext();) {
+      Long ownerId = owners.next();
+      owners.remove();
+      trimInbox(ownerId);
+    }
+  }
+
+  @Override
+  public TimelineStats getStats(String adminUsername) throws SecurityException {
+    checkAdmin(adminUsername);
+    return currentStats();
+  }
+
+  @Override
+  public TimelineStats updateCelebrityThreshold(String adminUsername, int threshold)
+      throws SecurityException, IllegalArgumentException {
+    checkAdmin(adminUsername);
+    if (threshold < 0) {
+      throw new IllegalArgumentException("Threshold cannot be negative.");
+    }
+
+    int previous = celebrityThreshold.getAndSet(threshold);
+    logger.info("Celebrity threshold changed from {} to {} by {}", previous, threshold,
+        adminUsername);
+    return currentStats();
+  }
+
+  public int getCelebrityThreshold() {
+    return celebrityThreshold.get();
+  }
+
+  private TimelineStats currentStats() {
+    return new TimelineStats(celebrityThreshold.get(), pushedEntries.sum(), pulledPosts.sum(),
+        mergedReads.sum());
+  }
+
+  private void checkAdmin(String username) throws SecurityException {
+    userCache.get(username).filter(user -> user.isAdmin())
+        .orElseThrow(() -> new SecurityException("User is not authorized to access this."));
+  }
+
+  private void trimInbox(Long ownerId) {
+    List<TimelineEntry> firstDropped =
+        timelineRepository.findNewest(ownerId, PageRequest.of(capacity, 1));
+    if (!firstDropped.isEmpty()) {
+      TimelineEntry cutoff = firstDropped.get(0);
+      timelineRepository.deleteUpTo(ownerId, cutoff.getCreateDate(), cutoff.getPostId());
+    }
+  }
+}
@@ -1,42 +1,77 @@
 package com.project.backend.service.implementation;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
-import org.hibernate.Hibernate;
+import org.roaringbitmap.PeekableIntIterator;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.project.backend.cache.FeedCache;
+import com.project.backend.cache.UserCache;
 import com.project.backend.config.SecurityConfigInterface;
-import com.project.backend.model.AppAuthorization;
+import com.project.backend.index.FriendGraph;
+import com.project.backend.index.InterestIndex;
+import com.project.backend.index.PostIndex;
+import com.project.backend.index.UsernameIndex;
 import com.project.backend.model.AppUser;
-import com.project.backend.repository.AppAuthorizationRepository;
+import com.project.backend.model.CachedUser;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserListing;
+import com.project.backend.model.UserPage;
+import com.project.backend.repository.PostRepository;
 import com.project.backend.repository.UserRepository;
+import com.project.backend.service.RecommendationService;
+import com.project.backend.service.TimelineService;
 import com.project.backend.service.UserService;
 
 import jakarta.persistence.EntityExistsException;
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.PersistenceContext;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 public class UserServiceImpl implements UserService {
   private final UserRepository repository;
   private final SecurityConfigInterface securityConfig;
-  private final Long AppId = 1L;
-  private final AppAuthorizationRepository appAuthorizationRepository;
-
-  @PersistenceContext
-  private EntityManager entityManager;
+  static final int MAX_SEARCH_RESULTS = 50;
+  static final int MAX_SUGGESTIONS = 10;
+  static final int MAX_PAGE_SIZE = 100;
+  private static final Set<String> LISTING_SORTS = Set.of("id", "username", "email", "role");
+  private final TimelineService timelineService;
+  private final FeedCache feedCache;
+  private final UsernameIndex usernameIndex;
+  private final InterestIndex interestIndex;
+  private final FriendGraph friendGraph;
+  private final RecommendationService recommendationService;
+  private final UserCache userCache;
+  private final PostRepository postRepository;
+  private final PostIndex postIndex;
 
   public UserServiceImpl(UserRepository repository, SecurityConfigInterface securityConfig,
-      AppAuthorizationRepository appAuthorizationRepository) {
+      TimelineService timelineService, FeedCache feedCache, UsernameIndex usernameIndex,
+      InterestIndex interestIndex, FriendGraph friendGraph,
+      RecommendationService recommendationService, UserCache userCache,
+      PostRepository postRepository, PostIndex postIndex) {
     this.repository = repository;
     this.securityConfig = securityConfig;
-    this.appAuthorizationRepository = appAuthorizationRepository;
+    this.timelineService = timelineService;
+    this.feedCache = feedCache;
+    this.usernameIndex = usernameIndex;
+    this.interestIndex = interestIndex;
+    this.friendGraph = friendGraph;
+    this.recommendationService = recommendationService;
+    this.userCache = userCache;
+    this.postRepository = postRepository;
+    this.postIndex = postIndex;
   }
 
   @Override
@@ -54,7 +89,7 @@ public class UserServiceImpl implements UserService {
       return null;
     }
 
-    if (repository.findByUsername(user.getUsername()).isPresent()) {
+    if (userCache.get(user.getUsername()).isPresent()) {
       throw new EntityExistsException("Username is not unique.");
     }
 
@@ -62,11 +97,6 @@ public class UserServiceImpl implements UserService {
     user.setPendingRequest(true);
     user.setRole("USER");
     repository.save(user);
-
-    AppAuthorization app = appAuthorizationRepository.findById(AppId)
-        .orElseThrow(() -> new IllegalArgumentException("App instance has not been created."));
-    app.addPendingRequest(user);
-    appAuthorizationRepository.save(app);
     return user;
   }
 
@@ -106,49 +136,94 @@ public class UserServiceImpl implements UserService {
       return ResponseEntity.badRequest().body("User not found with id: " + id);
     }
 
-    AppUser user = optUser.get();
-    user = entityManager.merge(user);
-    Hibernate.initialize(user.getFriends());
-    Hibernate.initialize(user.getFriendRequests());
-
-    for (AppUser friend : user.getFriends()) {
-      friend.getFriends().remove(user);
-      repository.save(friend);
-    }
-
-    for (AppUser friendRequest : user.getFriendRequests()) {
-      friendRequest.getFriendRequests().remove(user);
-      repository.save(friendRequest);
-    }
-
-    List<AppUser> allUsers = repository.findAll();
-    for (AppUser otherUser : allUsers) {
-      if (otherUser.getFriendRequests().contains(user)) {
-        otherUser.getFriendRequests().remove(user);
-        repository.save(otherUser);
-      }
-    }
-
-    repository.delete(user);
+    purgeUser(optUser.get());
     return ResponseEntity.ok().body("User deleted");
   }
 
   @Override
+  @Transactional
   public AppUser deleteUser(String username) throws EntityNotFoundException {
     Optional<AppUser> optUser = repository.findByUsername(username);
     if (!optUser.isPresent()) {
       throw new EntityNotFoundException("User not found with username: " + username);
     }
 
-    repository.delete(optUser.get());
+    purgeUser(optUser.get());
     return optUser.get();
   }
 
+  /**
+   * Deletes a user along with everything that references them. Each reference is removed with one
+   * statement over an indexed column, so the cost depends on the user's own friendships, requests
+   * and posts rather than on the number of users. The persistence context is cleared by the bulk
+   * deletes, so friend sets loaded earlier cannot bring the user back through their cascade.
+   *
+   * @param user - The user to delete, detached once this returns
+   */
+  private void purgeUser(AppUser user) {
+    Long userId = user.getId();
+    repository.deleteFriendships(userId);
+    repository.deleteFriendRequests(userId);
+    timelineService.removeUser(userId);
+
+    List<Long> postIds = postRepository.findIdsByUserId(userId);
+    postRepository.deleteByUserId(userId);
+    postIds.forEach(postIndex::remove);
+
+    repository.deleteById(userId);
+    userCache.invalidate(user.getUsername());
+    recommendationService.invalidateUser(userId);
+    friendGraph.removeUser(userId);
+    feedCache.invalidate(List.of(userId));
+    feedCache.invalidateAuthor(userId);
+  }
+
+  /**
+   * Deletes a batch of users the way {@link #purgeUser} deletes one, but with one statement per
+   * table for the whole batch. Ids that do not exist are skipped. The bulk delete of the users
+   * bypasses the entity listener, so they are taken out of the indexes here.
+   *
+   * @param ids - The ids of the users to delete
+   * @return The number of users deleted
+   */
+  @Override
+  @Transactional
+  public int deleteUsers(Collection<Long> ids) {
+    Map<Long, String> users = new HashMap<>();
+    for (Object[] row : repository.findUsernamesByIdIn(ids)) {
+      users.put((Long) row[0], (String) row[1]);
+    }
+    if (users.isEmpty()) {
+      return 0;
+    }
+
+    Set<Long> userIds = users.keySet();
+    repository.deleteFriendshipsByUserIdIn(userIds);
+    repository.deleteFriendRequestsByUserIdIn(userIds);
+    timelineService.removeUsers(userIds);
+
+    List<Long> postIds = postRepository.findIdsByUserIdIn(userIds);
+    postRepository.deleteByUserIdIn(userIds);
+    postIds.forEach(postIndex::remove);
+
+    repository.deleteByIdIn(userIds);
+    users.forEach((id, username) -> {
+      usernameIndex.update(id, username, false);
+      interestIndex.update(id, null, false);
+      userCache.invalidate(username);
+      recommendationService.invalidateUser(id);
+      friendGraph.removeUser(id);
+      feedCache.invalidateAuthor(id);
+    });
+    feedCache.invalidate(userIds);
+    return users.size();
+  }
+
   @Override
   public ResponseEntity<String> updateUserRole(Long id, String adminUsername)
       throws SecurityException {
 
-    repository.findByUsername(adminUsername).filter(user -> user.getRole().equals("ADMIN"))
+    userCache.get(adminUsername).filter(user -> user.isAdmin())
         .orElseThrow(() -> new SecurityException("User is not authorized to access this."));
 
     Optional<AppUser> optUser = repository.findById(id);
@@ -160,13 +235,37 @@ public class UserServiceImpl implements UserService {
     String newRole = user.getRole().equals("ADMIN") ? "USER" : "ADMIN";
     user.setRole(newRole);
     repository.save(user);
+    userCache.invalidate(user.getUsername());
     return ResponseEntity.ok().body("User role updated to " + newRole);
   }
 
   @Override
-  public List<AppUser> getAllUsers() {
-    return repository.findAll().stream().filter(user -> !user.isPendingRequest())
-        .collect(Collectors.toList());
+  public UserPage getAllUsers(int page, int size, String sort) throws IllegalArgumentException {
+    page = Math.max(0, page);
+    size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    List<UserListing> users =
+        repository.findListings(PageRequest.of(page, size, listingSort(sort)));
+    return new UserPage(users, page, size, repository.countByPendingRequestFalse());
+  }
+
+  /**
+   * Parses a listing sort such as {@code username} or {@code username,desc}. Ties are broken by
+   * id so pages never overlap.
+   *
+   * @param sort - The property to sort by, optionally followed by the direction
+   * @throws IllegalArgumentException - If the property or direction is not supported
+   */
+  private static Sort listingSort(String sort) throws IllegalArgumentException {
+    String[] parts = sort.split(",", 2);
+    String property = parts[0].trim();
+    if (!LISTING_SORTS.contains(property)) {
+      throw new IllegalArgumentException("Users cannot be sorted by " + property + ".");
+    }
+
+    Sort.Direction direction =
+        parts.length == 1 ? Sort.Direction.ASC : Sort.Direction.fromString(parts[1].trim());
+    Sort order = Sort.by(direction, property);
+    return property.equals("id") ? order : order.and(Sort.by("id"));
   }
 
   @Override
@@ -191,6 +290,10 @@ public class UserServiceImpl implements UserService {
     oldUser.setStatus(user.getStatus());
     oldUser.setInterests(user.getInterests());
     repository.save(oldUser);
+    userCache.invalidate(username);
+    interestIndex.update(oldUser.getId(), oldUser.getInterests(), !oldUser.isPendingRequest());
+    recommendationService.invalidateUser(oldUser.getId());
+    feedCache.invalidateAuthor(oldUser.getId());
     return oldUser;
   }
 
@@ -201,11 +304,11 @@ public class UserServiceImpl implements UserService {
 
   @Override
   public String getUserStatus(String username) throws UsernameNotFoundException {
-    Optional<AppUser> optUser = repository.findByUsername(username);
+    Optional<CachedUser> optUser = userCache.get(username);
     if (!optUser.isPresent()) {
       throw new UsernameNotFoundException("User does not exist.");
     }
-    return optUser.get().getStatus();
+    return optUser.get().status();
   }
 
   @Override
@@ -222,6 +325,7 @@ public class UserServiceImpl implements UserService {
     AppUser user = userOpt.get();
     user.setStatus(status.replace("\"", ""));
     repository.save(user);
+    userCache.invalidate(username);
     return status;
   }
 
@@ -252,6 +356,11 @@ public class UserServiceImpl implements UserService {
     friend.addFriend(user);
     user.deleteFriendRequest(friend);
     repository.save(user);
+    friendGraph.addFriendship(user.getId(), friend.getId());
+    timelineService.follow(user.getId(), friend.getId());
+    timelineService.follow(friend.getId(), user.getId());
+    feedCache.invalidate(List.of(user.getId(), friend.getId()));
+    recommendationService.invalidateFriendship(user.getId(), friend.getId());
     return new String("User " + friendUsername + " added to friends list");
   }
 
@@ -294,17 +403,14 @@ public class UserServiceImpl implements UserService {
   }
 
   @Override
-  public Set<AppUser> getFriends(String username) throws UsernameNotFoundException {
+  public List<UserCard> getFriends(String username) throws UsernameNotFoundException {
     if (username.isEmpty()) {
       throw new UsernameNotFoundException("username cannot be empty");
     }
 
-    Optional<AppUser> optUser = repository.findByUsername(username);
-    if (!optUser.isPresent()) {
-      throw new UsernameNotFoundException("user does not exist");
-    }
-
-    return optUser.get().getFriends();
+    CachedUser user = userCache.get(username)
+        .orElseThrow(() -> new UsernameNotFoundException("user does not exist"));
+    return repository.findFriendCards(user.id());
   }
 
   @Override
@@ -332,18 +438,68 @@ public class UserServiceImpl implements UserService {
     user.deleteFriend(friend);
     friend.deleteFriend(user);
     repository.save(user);
+    timelineService.unfollow(user.getId(), friend.getId());
+    timelineService.unfollow(friend.getId(), user.getId());
+    feedCache.invalidate(List.of(user.getId(), friend.getId()));
+    friendGraph.removeFriendship(user.getId(), friend.getId());
+    recommendationService.invalidateFriendship(user.getId(), friend.getId());
     return new String("Deleted user " + friendUsername + " from friends list");
   }
 
   @Override
-  public List<AppUser> getUserByInterests(Set<String> interests) {
-    System.out.println(interests.iterator().next());
-    return repository.findByInterestsIn(interests);
+  public List<UserCard> getUserByInterests(Set<String> interests) {
+    return queryInterests(Set.of(), interests, Set.of(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public List<UserCard> queryInterests(Set<String> all, Set<String> any, Set<String> none,
+      int limit) {
+    List<Long> ids = new ArrayList<>();
+    PeekableIntIterator matches = interestIndex.query(all, any, none).getIntIterator();
+    while (matches.hasNext() && ids.size() < limit) {
+      ids.add((long) matches.next());
+    }
+    return findCards(ids);
+  }
+
+  @Override
+  public long countByInterests(Set<String> all, Set<String> any, Set<String> none) {
+    return interestIndex.count(all, any, none);
   }
 
   @Override
-  public List<AppUser> searchUsers(String query) {
-    return repository.findByUsernameContainingIgnoreCase(query);
+  public Map<String, Integer> getInterestCounts() {
+    return interestIndex.counts();
+  }
+
+  @Override
+  public List<UserCard> searchUsers(String query) {
+    return searchUsers(query, MAX_SEARCH_RESULTS);
+  }
+
+  @Override
+  public List<UserCard> searchUsers(String query, int limit) {
+    return findCards(
+        usernameIndex.search(query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS))));
+  }
+
+  @Override
+  public List<String> suggestUsernames(String query, int limit) {
+    return usernameIndex.suggest(query, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+  }
+
+  /**
+   * Loads the cards of the given users in a single query, in the order of the ids.
+   *
+   * @param ids - The ids of the users, users that no longer exist are skipped
+   */
+  private List<UserCard> findCards(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, UserCard> cards = repository.findCardsByIdIn(ids).stream()
+        .collect(Collectors.toMap(UserCard::id, card -> card));
+    return ids.stream().map(cards::get).filter(card -> card != null).toList();
   }
 
 }
@@ -1,5 +1,8 @@
 package com.project.backend.startup;
 
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
@@ -8,6 +11,7 @@ import com.project.backend.repository.AppAuthorizationRepository;
 
 @Component
 public class AppStartupRunner implements ApplicationRunner {
+  private static final Logger logger = LoggerFactory.getLogger(AppStartupRunner.class);
   private final AppAuthorizationRepository appAuthorizationRepository;
 
   public AppStartupRunner(AppAuthorizationRepository appAuthorizationRepository) {
@@ -15,14 +19,22 @@ public class AppStartupRunner implements ApplicationRunner {
   }
 
   /**
-   * Creates a new App instance if it does not exist.
+   * Creates a new App instance if it does not exist, and empties the legacy pending request
+   * queue. The accounts in it are already flagged as pending on the user row.
    */
   @Override
   public void run(ApplicationArguments args) throws Exception {
-    if (!appAuthorizationRepository.findById(1L).isPresent()) {
+    Optional<AppAuthorization> optApp = appAuthorizationRepository.findById(1L);
+    if (!optApp.isPresent()) {
       AppAuthorization app = new AppAuthorization();
       app.setId(1L);
       appAuthorizationRepository.save(app);
+    } else if (!optApp.get().getPendingRequests().isEmpty()) {
+      AppAuthorization app = optApp.get();
+      logger.info("Moving {} pending requests to the user table",
+          app.getPendingRequests().size());
+      app.getPendingRequests().clear();
+      appAuthorizationRepository.save(app);
     }
   }
 
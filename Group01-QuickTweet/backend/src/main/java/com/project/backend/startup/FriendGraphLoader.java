@@ -0,0 +1,57 @@
+package com.project.backend.startup;
+
+import java.util.Arrays;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import com.project.backend.index.FriendGraph;
+import com.project.backend.repository.UserRepository;
+
+@Component
+public class FriendGraphLoader implements ApplicationRunner {
+  private static final Logger logger = LoggerFactory.getLogger(FriendGraphLoader.class);
+  private static final int BATCH_SIZE = 10000;
+
+  private final UserRepository userRepository;
+  private final FriendGraph friendGraph;
+
+  public FriendGraphLoader(UserRepository userRepository, FriendGraph friendGraph) {
+    this.userRepository = userRepository;
+    this.friendGraph = friendGraph;
+  }
+
+  /**
+   * Loads the friend graph from the FRIENDS table, in batches ordered by the primary key.
+   */
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    long[] from = new long[BATCH_SIZE];
+    long[] to = new long[BATCH_SIZE];
+    int rows = 0;
+    long lastUserId = 0;
+    long lastFriendId = 0;
+
+    List<Object[]> batch;
+    do {
+      batch = userRepository.findFriendshipsAfter(lastUserId, lastFriendId, BATCH_SIZE);
+      if (rows + batch.size() > from.length) {
+        from = Arrays.copyOf(from, Math.max(from.length * 2, rows + batch.size()));
+        to = Arrays.copyOf(to, from.length);
+      }
+      for (Object[] row : batch) {
+        lastUserId = ((Number) row[0]).longValue();
+        lastFriendId = ((Number) row[1]).longValue();
+        from[rows] = lastUserId;
+        to[rows] = lastFriendId;
+        rows++;
+      }
+    } while (batch.size() == BATCH_SIZE);
+
+    friendGraph.load(Arrays.copyOf(from, rows), Arrays.copyOf(to, rows));
+    logger.info("Loaded {} friendship rows into the friend graph", rows);
+  }
+
+}
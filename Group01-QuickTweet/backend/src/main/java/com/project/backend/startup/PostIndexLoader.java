@@ -0,0 +1,45 @@
+package com.project.backend.startup;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import com.project.backend.index.PostIndex;
+import com.project.backend.model.Post;
+import com.project.backend.repository.PostRepository;
+
+@Component
+public class PostIndexLoader implements ApplicationRunner {
+  private static final Logger logger = LoggerFactory.getLogger(PostIndexLoader.class);
+  private static final int BATCH_SIZE = 1000;
+
+  private final PostRepository postRepository;
+  private final PostIndex postIndex;
+
+  public PostIndexLoader(PostRepository postRepository, PostIndex postIndex) {
+    this.postRepository = postRepository;
+    this.postIndex = postIndex;
+  }
+
+  /**
+   * Builds the post search index from the stored posts, in batches ordered by id.
+   */
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    Long lastId = 0L;
+    List<Post> batch;
+    do {
+      batch = postRepository.findWithUserAfter(lastId, Limit.of(BATCH_SIZE));
+      batch.forEach(postIndex::index);
+      if (!batch.isEmpty()) {
+        lastId = batch.get(batch.size() - 1).getId();
+      }
+    } while (batch.size() == BATCH_SIZE);
+
+    logger.info("Indexed {} posts for search", postIndex.size());
+  }
+
+}
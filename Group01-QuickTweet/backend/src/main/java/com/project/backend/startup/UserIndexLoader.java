@@ -0,0 +1,68 @@
+package com.project.backend.startup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import com.project.backend.index.InterestIndex;
+import com.project.backend.index.UsernameIndex;
+import com.project.backend.model.AppUser;
+import com.project.backend.repository.UserRepository;
+
+@Component
+public class UserIndexLoader implements ApplicationRunner {
+  private static final Logger logger = LoggerFactory.getLogger(UserIndexLoader.class);
+  private static final int BATCH_SIZE = 1000;
+
+  private final UserRepository userRepository;
+  private final UsernameIndex usernameIndex;
+  private final InterestIndex interestIndex;
+
+  public UserIndexLoader(UserRepository userRepository, UsernameIndex usernameIndex,
+      InterestIndex interestIndex) {
+    this.userRepository = userRepository;
+    this.usernameIndex = usernameIndex;
+    this.interestIndex = interestIndex;
+  }
+
+  /**
+   * Builds the username and interest indexes from the approved users, in batches ordered by id.
+   */
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    Long lastId = 0L;
+    List<AppUser> batch;
+    do {
+      batch = userRepository.findByPendingRequestFalseAndIdGreaterThanOrderById(lastId,
+          Limit.of(BATCH_SIZE));
+      batch.forEach(user -> usernameIndex.update(user.getId(), user.getUsername(), true));
+      indexInterests(batch);
+      if (!batch.isEmpty()) {
+        lastId = batch.get(batch.size() - 1).getId();
+      }
+    } while (batch.size() == BATCH_SIZE);
+
+    logger.info("Indexed {} usernames for search", usernameIndex.size());
+  }
+
+  private void indexInterests(List<AppUser> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Set<String>> interests = new HashMap<>();
+    batch.forEach(user -> interests.put(user.getId(), new HashSet<>()));
+    for (Object[] row : userRepository.findInterestsByUserIdIn(interests.keySet())) {
+      interests.get((Long) row[0]).add((String) row[1]);
+    }
+    interests.forEach((id, userInterests) -> interestIndex.update(id, userInterests, true));
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.project.backend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.backend.model.FeedPage;
+import com.project.backend.model.PostView;
+import com.project.backend.model.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+public class FeedCacheTest {
+
+  private FeedCache feedCache;
+
+  private static final Long READER = 10L;
+  private static final Long OTHER = 11L;
+
+  private final UserSummary author = new UserSummary(1L, "author", "author@dal.ca", null);
+
+  @BeforeEach
+  void setUp() {
+    feedCache = new FeedCache(3, 100, 60);
+  }
+
+  private PostView post(long id) {
+    return new PostView(id, "Post " + id, new Timestamp(id * 1000), author);
+  }
+
+  @Test
+  void testGetFirstPageWhenNotCached() {
+    assertThat(feedCache.getFirstPage(READER, 2)).isNull();
+  }
+
+  @Test
+  void testPutKeepsNewestEntries() {
+    feedCache.put(READER, List.of(post(4), post(3), post(2), post(1)),
+        feedCache.version(READER));
+
+    FeedPage page = feedCache.getFirstPage(READER, 2);
+    assertThat(page.posts()).extracting(PostView::id).containsExactly(4L, 3L);
+    assertThat(page.nextCursor()).isNotNull();
+  }
+
+  @Test
+  void testPutIgnoredAfterConcurrentWrite() {
+    long version = feedCache.version(READER);
+    feedCache.invalidate(List.of(READER));
+    feedCache.put(READER, List.of(post(1)), version);
+
+    assertThat(feedCache.getFirstPage(READER, 2)).isNull();
+  }
+
+  @Test
+  void testAddPostIsIdempotent() {
+    feedCache.put(READER, List.of(post(1)), feedCache.version(READER));
+    feedCache.addPost(post(2), new long[] {READER, OTHER});
+    feedCache.addPost(post(2), new long[] {READER});
+
+    FeedPage page = feedCache.getFirstPage(READER, 2);
+    assertThat(page.posts()).extracting(PostView::id).containsExactly(2L, 1L);
+    assertThat(page.nextCursor()).isNull();
+    assertThat(feedCache.getFirstPage(OTHER, 2)).isNull();
+  }
+
+  @Test
+  void testAddPostToAudienceLargerThanCache() {
+    feedCache.put(READER, List.of(post(1)), feedCache.version(READER));
+    feedCache.addPost(post(2), new long[] {2L, 3L, READER, OTHER});
+
+    assertThat(feedCache.getFirstPage(READER, 2).posts()).extracting(PostView::id)
+        .containsExactly(2L, 1L);
+    assertThat(feedCache.getFirstPage(OTHER, 2)).isNull();
+  }
+
+  @Test
+  void testRemovePostFromIncompleteFeedForcesReload() {
+    feedCache.put(READER, List.of(post(4), post(3), post(2), post(1)),
+        feedCache.version(READER));
+    feedCache.removePost(4L, author.id(), new long[] {READER});
+    feedCache.removePost(3L, author.id(), new long[] {READER});
+
+    assertThat(feedCache.getFirstPage(READER, 2)).isNull();
+  }
+
+  @Test
+  void testInvalidateAuthor() {
+    feedCache.put(READER, List.of(post(1)), feedCache.version(READER));
+    feedCache.invalidateAuthor(author.id());
+
+    assertThat(feedCache.getFirstPage(READER, 2)).isNull();
+  }
+}
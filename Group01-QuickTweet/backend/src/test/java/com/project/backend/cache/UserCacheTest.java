@@ -0,0 +1,63 @@
+package com.project.backend.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.backend.model.CachedUser;
+import com.project.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+public class UserCacheTest {
+
+  private UserRepository userRepository;
+
+  private UserCache userCache;
+
+  private final CachedUser root = new CachedUser(1L, "root", "ADMIN", "Online", false);
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    userCache = new UserCache(userRepository, 100, 60);
+  }
+
+  @Test
+  void testGetReadsThrough() {
+    when(userRepository.findCachedByUsername("root")).thenReturn(Optional.of(root));
+
+    assertThat(userCache.get("root")).contains(root);
+    assertThat(userCache.get("root")).contains(root);
+
+    verify(userRepository, times(1)).findCachedByUsername("root");
+    assertThat(userCache.stats().hitCount()).isEqualTo(1);
+    assertThat(userCache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void testUnknownUsernameIsNotCached() {
+    when(userRepository.findCachedByUsername("nobody")).thenReturn(Optional.empty());
+
+    assertThat(userCache.get("nobody")).isEmpty();
+    assertThat(userCache.get("nobody")).isEmpty();
+
+    verify(userRepository, times(2)).findCachedByUsername("nobody");
+  }
+
+  @Test
+  void testInvalidateReloads() {
+    CachedUser demoted = new CachedUser(1L, "root", "USER", "Online", false);
+    when(userRepository.findCachedByUsername("root")).thenReturn(Optional.of(root),
+        Optional.of(demoted));
+
+    assertThat(userCache.get("root")).contains(root);
+    userCache.invalidate("root");
+
+    assertThat(userCache.get("root")).contains(demoted);
+  }
+}
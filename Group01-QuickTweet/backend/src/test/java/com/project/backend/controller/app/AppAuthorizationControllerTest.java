@@ -5,7 +5,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +25,10 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.backend.controller.AppAuthorizationController;
-import com.project.backend.model.AppUser;
+import com.project.backend.model.RequestBatch;
+import com.project.backend.model.RequestDecision;
+import com.project.backend.model.UserListing;
+import com.project.backend.model.UserPage;
 import com.project.backend.service.implementation.AppAuthorizationServiceImpl;
 
 import jakarta.transaction.Transactional;
@@ -56,14 +59,14 @@ public class AppAuthorizationControllerTest {
   @Test
   @WithMockUser
   void testGetPendingRequests() throws Exception {
-    Set<AppUser> pendingRequests = new HashSet<>();
-    AppUser user = new AppUser("user", "user@dal.ca", "password", "USER",
-        "What is the name of your first pet?", "Leo");
-    pendingRequests.add(user);
+    UserPage pendingRequests =
+        new UserPage(List.of(new UserListing(1L, "user", "user@dal.ca", "USER")), 1, 5, 6);
 
-    when(appAuthorizationService.getPendingRequests("root")).thenReturn(pendingRequests);
+    when(appAuthorizationService.getPendingRequests("root", 1, 5)).thenReturn(pendingRequests);
 
-    mockMvc.perform(get("/admin/requests/root").contentType(MediaType.APPLICATION_JSON))
+    mockMvc
+        .perform(get("/admin/requests/root").param("page", "1").param("size", "5")
+            .contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(content().string(objectMapper.writeValueAsString(pendingRequests)));
   }
@@ -71,15 +74,57 @@ public class AppAuthorizationControllerTest {
   @Test
   @WithMockUser
   void testGetPendingRequestsNoRequests() throws Exception {
-    Set<AppUser> pendingRequests = new HashSet<>();
+    UserPage pendingRequests = new UserPage(List.of(), 0, 20, 0);
 
-    when(appAuthorizationService.getPendingRequests("root")).thenReturn(pendingRequests);
+    when(appAuthorizationService.getPendingRequests("root", 0, 20)).thenReturn(pendingRequests);
 
     mockMvc.perform(get("/admin/requests/root").contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(content().string(objectMapper.writeValueAsString(pendingRequests)));
   }
 
+  @Test
+  @WithMockUser
+  void testDecidePendingRequests() throws Exception {
+    RequestBatch batch = new RequestBatch(Set.of("user1"), Set.of("user2"));
+    List<RequestDecision> decisions =
+        List.of(new RequestDecision("user1", RequestDecision.Outcome.APPROVED),
+            new RequestDecision("user2", RequestDecision.Outcome.REJECTED));
+
+    when(appAuthorizationService.decidePendingRequests("root", batch)).thenReturn(decisions);
+
+    mockMvc
+        .perform(post("/admin/requests/root/decisions")
+            .content(objectMapper.writeValueAsString(batch))
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().string(objectMapper.writeValueAsString(decisions)));
+  }
+
+  @Test
+  @WithMockUser
+  void testDecidePendingRequestsNotAdmin() throws Exception {
+    when(appAuthorizationService.decidePendingRequests(eq("user"), any(RequestBatch.class)))
+        .thenThrow(new SecurityException("User is not authorized to access this."));
+
+    mockMvc
+        .perform(post("/admin/requests/user/decisions").content("{\"approve\":[\"user1\"]}")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockUser
+  void testDecidePendingRequestsInvalidBatch() throws Exception {
+    when(appAuthorizationService.decidePendingRequests(eq("root"), any(RequestBatch.class)))
+        .thenThrow(new IllegalArgumentException("No requests to decide on."));
+
+    mockMvc
+        .perform(post("/admin/requests/root/decisions").content("{}")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @WithMockUser
   void testApprovePendingRequestSuccess() throws Exception {
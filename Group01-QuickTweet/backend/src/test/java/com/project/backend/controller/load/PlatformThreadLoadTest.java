@@ -0,0 +1,13 @@
+package com.project.backend.controller.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"spring.threads.virtual.enabled=false",
+    "spring.datasource.url=jdbc:h2:mem:platform-load"})
+public class PlatformThreadLoadTest extends RequestModeLoadTest {
+
+  @Override
+  boolean virtualThreads() {
+    return false;
+  }
+}
@@ -0,0 +1,195 @@
+package com.project.backend.controller.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import com.project.backend.model.AppUser;
+import com.project.backend.model.Post;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.PostService;
+
+/**
+ * Drives the login and feed endpoints with more concurrent clients than there are request threads
+ * or pooled connections, against a database that takes {@value #LATENCY_MS} ms to hand out each
+ * connection. Logs the throughput and p99 latency of each endpoint, so the two request modes can be
+ * compared by running both subclasses.
+ *
+ * <p>
+ * The request thread pool is scaled down to 16 threads and the connection pool to 32 connections,
+ * the same shape as 200 threads in front of a larger pool in production.
+ *
+ * <p>
+ * Tagged {@code load}, so it is left out of the default build and run with {@code -Pload}.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {"spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa", "spring.datasource.password=",
+    "spring.datasource.hikari.maximum-pool-size=32",
+    "spring.datasource.hikari.connection-timeout=10000", "spring.jpa.show-sql=false",
+    "server.tomcat.threads.max=16", "quicktweet.password.strength=4",
+    "quicktweet.login.queue-capacity=256"})
+@Import(RequestModeLoadTest.SlowDatabase.class)
+@DirtiesContext
+@Tag("load")
+abstract class RequestModeLoadTest {
+  private static final Logger logger = LoggerFactory.getLogger(RequestModeLoadTest.class);
+  static final long LATENCY_MS = 20;
+  private static final int CLIENTS = 64;
+  private static final int REQUESTS_PER_CLIENT = 10;
+  private static final String PASSWORD = "dsadsa@A1";
+
+  private static final LongAdder virtualAcquisitions = new LongAdder();
+  private static final LongAdder platformAcquisitions = new LongAdder();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  private final HttpClient client =
+      HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+  /**
+   * Whether request handling is expected to run on virtual threads.
+   */
+  abstract boolean virtualThreads();
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class SlowDatabase {
+    @Bean
+    static BeanPostProcessor slowConnections() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+          }
+          return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+              Connection connection = super.getConnection();
+              (Thread.currentThread().isVirtual() ? virtualAcquisitions : platformAcquisitions)
+                  .increment();
+              try {
+                Thread.sleep(LATENCY_MS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return connection;
+            }
+          };
+        }
+      };
+    }
+  }
+
+  @Test
+  public void testLoginAndFeedUnderLoad() throws Exception {
+    userRepository.save(new AppUser("loaduser", "loaduser@dal.ca", passwordEncoder.encode(PASSWORD),
+        "USER", "What is the name of your first pet?", "Leo"));
+    for (int i = 0; i < 20; i++) {
+      postService.createPost("loaduser", new Post("Load test post " + i));
+    }
+
+    Supplier<HttpRequest> login = () -> HttpRequest.newBuilder(uri("/login"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers
+            .ofString("{\"username\":\"loaduser\",\"password\":\"" + PASSWORD + "\"}"))
+        .build();
+    String token = client.send(login.get(), HttpResponse.BodyHandlers.discarding()).headers()
+        .firstValue("Authorization").orElseThrow();
+    Supplier<HttpRequest> feed = () -> HttpRequest.newBuilder(uri("/posts/loaduser/feed?size=20"))
+        .header("Authorization", token).GET().build();
+
+    run("login", login, 1);
+    run("feed", feed, 1);
+    virtualAcquisitions.reset();
+    platformAcquisitions.reset();
+
+    run("feed", feed, REQUESTS_PER_CLIENT);
+    if (virtualThreads()) {
+      assertThat(platformAcquisitions.sum()).isZero();
+      assertThat(virtualAcquisitions.sum()).isPositive();
+    } else {
+      assertThat(virtualAcquisitions.sum()).isZero();
+      assertThat(platformAcquisitions.sum()).isPositive();
+    }
+
+    // password checks always run on the login executor's virtual threads
+    run("login", login, REQUESTS_PER_CLIENT);
+  }
+
+  private void run(String endpoint, Supplier<HttpRequest> request, int requestsPerClient)
+      throws Exception {
+    List<Future<long[]>> results = new ArrayList<>();
+    long start = System.nanoTime();
+    try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)) {
+      for (int c = 0; c < CLIENTS; c++) {
+        results.add(clients.submit(() -> {
+          long[] latencies = new long[requestsPerClient];
+          for (int i = 0; i < requestsPerClient; i++) {
+            long sent = System.nanoTime();
+            HttpResponse<Void> response =
+                client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - sent;
+            assertThat(response.statusCode()).as(endpoint).isEqualTo(200);
+          }
+          return latencies;
+        }));
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+
+    long[] latencies = new long[CLIENTS * requestsPerClient];
+    for (int c = 0; c < CLIENTS; c++) {
+      System.arraycopy(results.get(c).get(), 0, latencies, c * requestsPerClient,
+          requestsPerClient);
+    }
+    Arrays.sort(latencies);
+    long p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+    logger.info("{} on {} threads: {} requests, {} req/s, p99 {} ms", endpoint,
+        virtualThreads() ? "virtual" : "platform", latencies.length,
+        latencies.length * 1_000_000_000L / elapsed, p99 / 1_000_000);
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
@@ -0,0 +1,13 @@
+package com.project.backend.controller.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"spring.threads.virtual.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:virtual-load"})
+public class VirtualThreadLoadTest extends RequestModeLoadTest {
+
+  @Override
+  boolean virtualThreads() {
+    return true;
+  }
+}
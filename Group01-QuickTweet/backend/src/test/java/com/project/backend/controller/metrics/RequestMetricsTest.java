@@ -0,0 +1,58 @@
+package com.project.backend.controller.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.backend.model.AppUser;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.implementation.AppAuthorizationServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@Transactional
+public class RequestMetricsTest {
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry registry;
+
+  @Autowired
+  private UserRepository repository;
+
+  @Test
+  @WithMockUser
+  public void testRequestRecordsQueriesAndServiceTime() throws Exception {
+    repository.save(new AppUser("metricsAdmin", "metricsAdmin@dal.ca", "password", "ADMIN",
+        "What is the name of your first pet?", "Leo"));
+
+    mockMvc.perform(get("/admin/requests/metricsAdmin")).andExpect(status().isOk());
+
+    DistributionSummary queries = registry.find("http.server.requests.queries")
+        .tags("method", "GET", "uri", "/admin/requests/{username}").summary();
+    assertThat(queries).isNotNull();
+    assertThat(queries.count()).isEqualTo(1);
+    // the admin lookup, the page and the count
+    assertThat(queries.totalAmount()).isEqualTo(3);
+
+    Timer service = registry.find("service.method")
+        .tags("class", AppAuthorizationServiceImpl.class.getName(), "method", "getPendingRequests")
+        .timer();
+    assertThat(service).isNotNull();
+    assertThat(service.count()).isEqualTo(1);
+  }
+}
@@ -1,23 +1,34 @@
 package com.project.backend.controller.post;
 
 import com.project.backend.controller.PostController;
+import com.project.backend.error.ConnectionPoolExceptionHandler;
+import com.project.backend.model.FeedPage;
 import com.project.backend.model.Post;
+import com.project.backend.model.PostView;
+import com.project.backend.model.UserSummary;
 import com.project.backend.service.PostService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.sql.SQLTransientConnectionException;
 import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,7 +46,8 @@ class PostControllerTest {
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
-    this.mockMvc = MockMvcBuilders.standaloneSetup(postController).build();
+    this.mockMvc = MockMvcBuilders.standaloneSetup(postController)
+        .setControllerAdvice(new ConnectionPoolExceptionHandler(1)).build();
   }
 
   @Test
@@ -91,6 +103,80 @@ class PostControllerTest {
     mockMvc.perform(get("/posts/testuser")).andExpect(content().string(""));
   }
 
+  @Test
+  void testGetFeed() throws Exception {
+    UserSummary author = new UserSummary(1L, "testuser", "testuser@dal.ca", null);
+    PostView post = new PostView(1L, "A feed post", new Timestamp(0), author);
+
+    when(postService.getFeed(eq("testuser"), isNull(), eq(5)))
+        .thenReturn(new FeedPage(List.of(post), "next"));
+
+    mockMvc.perform(get("/posts/testuser/feed")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.posts.length()").value(1))
+        .andExpect(jsonPath("$.posts[0].content").value("A feed post"))
+        .andExpect(jsonPath("$.posts[0].user.username").value("testuser"))
+        .andExpect(jsonPath("$.nextCursor").value("next"));
+  }
+
+  @Test
+  void testGetFeedWithInvalidCursor() throws Exception {
+    when(postService.getFeed(anyString(), anyString(), anyInt()))
+        .thenThrow(new IllegalArgumentException("Invalid feed cursor."));
+
+    mockMvc.perform(get("/posts/testuser/feed").param("cursor", "bad"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testGetFeedWithoutConnection() throws Exception {
+    when(postService.getFeed(anyString(), isNull(), anyInt()))
+        .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+    mockMvc.perform(get("/posts/testuser/feed")).andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
+  @Test
+  void testGetFeedWithoutConnectionOutsideTransaction() throws Exception {
+    when(postService.getFeed(anyString(), isNull(), anyInt()))
+        .thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+
+    mockMvc.perform(get("/posts/testuser/feed")).andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
+  @Test
+  void testGetFeedWithPoolTimeoutAsCause() throws Exception {
+    when(postService.getFeed(anyString(), isNull(), anyInt()))
+        .thenThrow(new JDBCConnectionException("Unable to acquire JDBC Connection",
+            new SQLTransientConnectionException("Connection is not available")));
+
+    mockMvc.perform(get("/posts/testuser/feed")).andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
+  @Test
+  void testSearchFeed() throws Exception {
+    UserSummary author = new UserSummary(1L, "testuser", "testuser@dal.ca", null);
+    PostView post = new PostView(1L, "Matching post", new Timestamp(0), author);
+
+    when(postService.searchFeed(eq("testuser"), eq("match"), eq("test"), isNull(), eq(20)))
+        .thenReturn(List.of(post));
+
+    mockMvc.perform(get("/posts/testuser/search").param("q", "match").param("user", "test"))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].content").value("Matching post"));
+  }
+
+  @Test
+  void testSearchFeedWithNonexistentUser() throws Exception {
+    when(postService.searchFeed(anyString(), anyString(), any(), any(), anyInt()))
+        .thenReturn(null);
+
+    mockMvc.perform(get("/posts/nonexistentUser/search").param("q", "match"))
+        .andExpect(status().isNotFound());
+  }
+
   @Test
   void testUpdatePost() throws Exception {
     Post post = new Post("Updated content");
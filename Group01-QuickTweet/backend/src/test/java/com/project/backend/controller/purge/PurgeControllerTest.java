@@ -0,0 +1,104 @@
+package com.project.backend.controller.purge;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.sql.Timestamp;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.project.backend.controller.PurgeController;
+import com.project.backend.model.PurgeJob;
+import com.project.backend.model.PurgeProgress;
+import com.project.backend.service.PurgeService;
+
+import jakarta.persistence.EntityNotFoundException;
+
+class PurgeControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private PurgeService purgeService;
+
+  @InjectMocks
+  private PurgeController purgeController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(purgeController).build();
+  }
+
+  private static PurgeProgress progress(PurgeJob.Status status, int deleted, long remaining) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    return new PurgeProgress(7L, status, 3, deleted, 0, 0, remaining, null, now, now);
+  }
+
+  @Test
+  void testStartPurge() throws Exception {
+    when(purgeService.startPurge("admin", Set.of(1L, 2L, 3L)))
+        .thenReturn(progress(PurgeJob.Status.RUNNING, 0, 3));
+
+    mockMvc
+        .perform(post("/admin/purge/admin").content("[1, 2, 3]")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isAccepted()).andExpect(jsonPath("$.id").value(7))
+        .andExpect(jsonPath("$.remaining").value(3));
+  }
+
+  @Test
+  void testStartPurgeNotAdmin() throws Exception {
+    when(purgeService.startPurge("user", Set.of(1L)))
+        .thenThrow(new SecurityException("User is not authorized to access this."));
+
+    mockMvc.perform(
+        post("/admin/purge/user").content("[1]").contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void testStartPurgeWithNothingToDelete() throws Exception {
+    when(purgeService.startPurge("admin", Set.of()))
+        .thenThrow(new IllegalArgumentException("No accounts to delete."));
+
+    mockMvc.perform(
+        post("/admin/purge/admin").content("[]").contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void testGetProgress() throws Exception {
+    when(purgeService.getProgress("admin", 7L))
+        .thenReturn(progress(PurgeJob.Status.COMPLETED, 3, 0));
+
+    mockMvc.perform(get("/admin/purge/admin/7")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("COMPLETED"))
+        .andExpect(jsonPath("$.deleted").value(3));
+  }
+
+  @Test
+  void testGetProgressOfUnknownJob() throws Exception {
+    when(purgeService.getProgress("admin", 8L))
+        .thenThrow(new EntityNotFoundException("Purge job not found with id: 8"));
+
+    mockMvc.perform(get("/admin/purge/admin/8")).andExpect(status().isNotFound());
+  }
+
+  @Test
+  void testResumeRunningJob() throws Exception {
+    when(purgeService.resumePurge("admin", 7L))
+        .thenThrow(new IllegalStateException("Only a failed purge job can be resumed."));
+
+    mockMvc.perform(put("/admin/purge/admin/7")).andExpect(status().isConflict());
+  }
+}
@@ -0,0 +1,63 @@
+package com.project.backend.controller.query;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.project.backend.controller.QueryLogController;
+import com.project.backend.model.QueryShape;
+import com.project.backend.service.QueryLogService;
+
+class QueryLogControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private QueryLogService queryLogService;
+
+  @InjectMocks
+  private QueryLogController queryLogController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(queryLogController).build();
+  }
+
+  @Test
+  void testGetSlowestQueries() throws Exception {
+    when(queryLogService.getSlowestQueries("admin", 10, "total")).thenReturn(
+        List.of(new QueryShape("select * from post where id = ?", 4, 12.0, 3.0, 5.0)));
+
+    mockMvc.perform(get("/admin/queries/admin")).andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].fingerprint").value("select * from post where id = ?"))
+        .andExpect(jsonPath("$[0].count").value(4))
+        .andExpect(jsonPath("$[0].meanMillis").value(3.0));
+  }
+
+  @Test
+  void testGetSlowestQueriesNotAdmin() throws Exception {
+    when(queryLogService.getSlowestQueries("user", 10, "total"))
+        .thenThrow(new SecurityException("User is not authorized to access this."));
+
+    mockMvc.perform(get("/admin/queries/user")).andExpect(status().isForbidden());
+  }
+
+  @Test
+  void testGetSlowestQueriesUnsupportedSort() throws Exception {
+    when(queryLogService.getSlowestQueries("admin", 5, "name"))
+        .thenThrow(new IllegalArgumentException("Unsupported sort: name"));
+
+    mockMvc.perform(get("/admin/queries/admin").param("limit", "5").param("sort", "name"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,61 @@
+package com.project.backend.controller.recommendation;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.project.backend.controller.RecommendationController;
+import com.project.backend.model.FriendRecommendation;
+import com.project.backend.model.RecommendedUser;
+import com.project.backend.service.RecommendationService;
+
+class RecommendationControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private RecommendationService recommendationService;
+
+  @InjectMocks
+  private RecommendationController recommendationController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(recommendationController).build();
+  }
+
+  @Test
+  void testGetRecommendations() throws Exception {
+    RecommendedUser user = new RecommendedUser(2L, "bob", null);
+    when(recommendationService.getRecommendations("alice", 3))
+        .thenReturn(List.of(new FriendRecommendation(user, 2, 1, 2.5)));
+
+    mockMvc.perform(get("/users/alice/recommendations")).andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].user.username").value("bob"))
+        .andExpect(jsonPath("$[0].user.email").doesNotExist())
+        .andExpect(jsonPath("$[0].mutualFriends").value(2))
+        .andExpect(jsonPath("$[0].score").value(2.5));
+  }
+
+  @Test
+  void testGetRecommendationsForNonexistentUser() throws Exception {
+    when(recommendationService.getRecommendations(anyString(), anyInt()))
+        .thenThrow(new UsernameNotFoundException("User does not exist."));
+
+    mockMvc.perform(get("/users/nobody/recommendations")).andExpect(status().isNotFound());
+  }
+}
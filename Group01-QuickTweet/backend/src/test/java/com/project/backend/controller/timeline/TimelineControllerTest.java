@@ -0,0 +1,74 @@
+package com.project.backend.controller.timeline;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.project.backend.controller.TimelineController;
+import com.project.backend.model.TimelineStats;
+import com.project.backend.service.TimelineService;
+
+class TimelineControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private TimelineService timelineService;
+
+  @InjectMocks
+  private TimelineController timelineController;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    this.mockMvc = MockMvcBuilders.standaloneSetup(timelineController).build();
+  }
+
+  @Test
+  void testGetStats() throws Exception {
+    when(timelineService.getStats("admin")).thenReturn(new TimelineStats(1000, 12, 3, 4));
+
+    mockMvc.perform(get("/admin/timeline/admin")).andExpect(status().isOk())
+        .andExpect(jsonPath("$.celebrityThreshold").value(1000))
+        .andExpect(jsonPath("$.pushedEntries").value(12));
+  }
+
+  @Test
+  void testGetStatsNotAdmin() throws Exception {
+    when(timelineService.getStats("user"))
+        .thenThrow(new SecurityException("User is not authorized to access this."));
+
+    mockMvc.perform(get("/admin/timeline/user")).andExpect(status().isForbidden());
+  }
+
+  @Test
+  void testUpdateCelebrityThreshold() throws Exception {
+    when(timelineService.updateCelebrityThreshold("admin", 50))
+        .thenReturn(new TimelineStats(50, 0, 0, 0));
+
+    mockMvc
+        .perform(put("/admin/timeline/admin").contentType(MediaType.APPLICATION_JSON).content("50"))
+        .andExpect(status().isOk()).andExpect(jsonPath("$.celebrityThreshold").value(50));
+  }
+
+  @Test
+  void testUpdateCelebrityThresholdNegative() throws Exception {
+    when(timelineService.updateCelebrityThreshold(anyString(), anyInt()))
+        .thenThrow(new IllegalArgumentException("Threshold cannot be negative."));
+
+    mockMvc
+        .perform(put("/admin/timeline/admin").contentType(MediaType.APPLICATION_JSON).content("-1"))
+        .andExpect(status().isBadRequest());
+  }
+}
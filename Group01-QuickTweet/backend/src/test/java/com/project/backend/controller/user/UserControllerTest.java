@@ -27,6 +27,9 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.backend.model.AppUser;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserListing;
+import com.project.backend.model.UserPage;
 import com.project.backend.service.implementation.UserServiceImpl;
 import com.project.backend.utils.UpdatePassword;
 import jakarta.transaction.Transactional;
@@ -89,25 +92,34 @@ public class UserControllerTest {
   @Test
   @WithMockUser
   void testGetAllUsers() throws Exception {
-    AppUser user1 = new AppUser("root", "root@dal.ca", "password", "ADMIN",
-        "What is the name of your first pet?", "Leo");
-    AppUser user2 = new AppUser("root2", "root2@dal.ca", "password", "ADMIN",
-        "What is the name of your first pet?", "Leo");
-    List<AppUser> users = Arrays.asList(user1, user2);
+    List<UserListing> users = Arrays.asList(new UserListing(1L, "root", "root@dal.ca", "ADMIN"),
+        new UserListing(2L, "root2", "root2@dal.ca", "ADMIN"));
 
-    when(userService.getAllUsers()).thenReturn(users);
-    String expectedJSON = objectMapper.writeValueAsString(users);
-    this.mockMvc.perform(get("/users")).andExpect(status().isOk())
+    UserPage page = new UserPage(users, 1, 2, 4);
+
+    when(userService.getAllUsers(1, 2, "username")).thenReturn(page);
+    String expectedJSON = objectMapper.writeValueAsString(page);
+    this.mockMvc.perform(get("/users").param("page", "1").param("size", "2")
+        .param("sort", "username")).andExpect(status().isOk())
         .andExpect(content().string(expectedJSON));
   }
 
   @Test
   @WithMockUser
   void testGetAllUsersWhenThereAreNoUsers() throws Exception {
-    when(userService.getAllUsers()).thenReturn(null);
+    when(userService.getAllUsers(0, 20, "id")).thenReturn(null);
     this.mockMvc.perform(get("/users")).andExpect(content().string(""));
   }
 
+  @Test
+  @WithMockUser
+  void testGetAllUsersWithUnsupportedSort() throws Exception {
+    when(userService.getAllUsers(0, 20, "password"))
+        .thenThrow(new IllegalArgumentException("Users cannot be sorted by password."));
+    this.mockMvc.perform(get("/users").param("sort", "password"))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @WithMockUser
   void testGetUserById() throws Exception {
@@ -295,12 +307,8 @@ public class UserControllerTest {
   @WithMockUser
   void testGetFriends() throws Exception {
     String username = "root";
-    AppUser user1 = new AppUser("user1", "user1@dal.ca", "password", "USER",
-        "What is your mother's maiden name?", "Smith");
-    AppUser user2 = new AppUser("user2", "user2@dal.ca", "password", "USER",
-        "What was your first car?", "Toyota");
-
-    Set<AppUser> friends = new HashSet<>(Arrays.asList(user1, user2));
+    List<UserCard> friends =
+        Arrays.asList(new UserCard(1L, "user1", null), new UserCard(2L, "user2", "Hello"));
 
     when(userService.getFriends(username)).thenReturn(friends);
     String expectedJson = objectMapper.writeValueAsString(friends);
@@ -326,12 +334,8 @@ public class UserControllerTest {
   @WithMockUser
   void testGetUsersByInterests() throws Exception {
     Set<String> interests = new HashSet<>(Arrays.asList("coding", "gaming"));
-    AppUser user1 = new AppUser("user1", "user1@dal.ca", "password", "USER",
-        "What is your mother's maiden name?", "Smith");
-    AppUser user2 = new AppUser("user2", "user2@dal.ca", "password", "USER",
-        "What was your first car?", "Toyota");
-
-    List<AppUser> usersByInterests = Arrays.asList(user1, user2);
+    List<UserCard> usersByInterests =
+        Arrays.asList(new UserCard(1L, "user1", null), new UserCard(2L, "user2", null));
 
     when(userService.getUserByInterests(interests)).thenReturn(usersByInterests);
     String requestJson = objectMapper.writeValueAsString(interests);
@@ -342,4 +346,24 @@ public class UserControllerTest {
             post("/users/interests").content(requestJson).contentType(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk()).andExpect(content().json(expectedJson));
   }
+
+  @Test
+  @WithMockUser
+  void testSuggestUsernames() throws Exception {
+    when(userService.suggestUsernames("us", 8)).thenReturn(List.of("user1", "user2"));
+
+    this.mockMvc.perform(get("/users/typeahead").param("query", "us")).andExpect(status().isOk())
+        .andExpect(content().json("[\"user1\", \"user2\"]"));
+  }
+
+  @Test
+  @WithMockUser
+  void testCountByInterests() throws Exception {
+    when(userService.countByInterests(Set.of("music", "sports"), Set.of(), Set.of("gaming")))
+        .thenReturn(3L);
+
+    this.mockMvc
+        .perform(get("/users/interests/count").param("all", "music,sports").param("none", "gaming"))
+        .andExpect(status().isOk()).andExpect(content().string("3"));
+  }
 }
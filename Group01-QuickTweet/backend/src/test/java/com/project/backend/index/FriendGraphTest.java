@@ -0,0 +1,64 @@
+package com.project.backend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FriendGraphTest {
+
+  private FriendGraph friendGraph;
+
+  @BeforeEach
+  void setUp() {
+    friendGraph = new FriendGraph();
+    // rows as stored in FRIENDS, in both directions
+    friendGraph.load(new long[] {1, 2, 1, 3, 2, 3, 2, 4}, new long[] {2, 1, 3, 1, 3, 2, 4, 2});
+  }
+
+  @Test
+  void testLoad() {
+    assertThat(friendGraph.neighbors(1L)).containsExactly(2, 3);
+    assertThat(friendGraph.neighbors(2L)).containsExactly(1, 3, 4);
+    assertThat(friendGraph.degree(4L)).isEqualTo(1);
+    assertThat(friendGraph.neighbors(5L)).isEmpty();
+    assertThat(friendGraph.areFriends(3L, 2L)).isTrue();
+    assertThat(friendGraph.areFriends(1L, 4L)).isFalse();
+  }
+
+  @Test
+  void testMutualFriendsAndDegrees() {
+    assertThat(friendGraph.mutualFriends(1L, 2L)).containsExactly(3);
+    assertThat(friendGraph.mutualFriends(3L, 4L)).containsExactly(2);
+    assertThat(friendGraph.degree(2L)).isEqualTo(3);
+  }
+
+  @Test
+  void testAddAndRemoveFriendships() {
+    friendGraph.addFriendship(4L, 5L);
+    friendGraph.addFriendship(1L, 4L);
+    friendGraph.removeFriendship(2L, 3L);
+
+    assertThat(friendGraph.neighbors(4L)).containsExactly(1, 2, 5);
+    assertThat(friendGraph.neighbors(5L)).containsExactly(4);
+    assertThat(friendGraph.neighbors(3L)).containsExactly(1);
+
+    friendGraph.removeUser(4L);
+    assertThat(friendGraph.neighbors(4L)).isEmpty();
+    assertThat(friendGraph.neighbors(1L)).containsExactly(2, 3);
+    assertThat(friendGraph.degree(5L)).isZero();
+  }
+
+  @Test
+  void testCompactionKeepsFriendships() {
+    // enough changes to fold the overlay into new arrays several times
+    for (long id = 10; id < 3000; id++) {
+      friendGraph.addFriendship(id, id + 1);
+    }
+    friendGraph.removeFriendship(1500L, 1501L);
+
+    assertThat(friendGraph.neighbors(1500L)).containsExactly(1499);
+    assertThat(friendGraph.neighbors(2999L)).containsExactly(2998, 3000);
+    assertThat(friendGraph.neighbors(2L)).containsExactly(1, 3, 4);
+  }
+}
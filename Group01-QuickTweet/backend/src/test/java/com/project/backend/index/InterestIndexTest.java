@@ -0,0 +1,70 @@
+package com.project.backend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class InterestIndexTest {
+
+  private InterestIndex interestIndex;
+
+  @BeforeEach
+  void setUp() {
+    interestIndex = new InterestIndex();
+    interestIndex.update(1L, Set.of("music", "sports"), true);
+    interestIndex.update(2L, Set.of("music", "technology"), true);
+    interestIndex.update(3L, Set.of("sports"), true);
+    interestIndex.update(4L, Set.of(), true);
+  }
+
+  @Test
+  void testQueryAllAnyNone() {
+    assertThat(interestIndex.query(Set.of("music", "sports"), Set.of(), Set.of()).toArray())
+        .containsExactly(1);
+    assertThat(interestIndex.query(Set.of(), Set.of("technology", "sports"), Set.of()).toArray())
+        .containsExactly(1, 2, 3);
+    assertThat(interestIndex.query(Set.of(), Set.of("sports"), Set.of("music")).toArray())
+        .containsExactly(3);
+    assertThat(interestIndex.query(Set.of(), Set.of(), Set.of("music")).isEmpty()).isTrue();
+    assertThat(interestIndex.query(Set.of(), Set.of(), Set.of()).isEmpty()).isTrue();
+    assertThat(interestIndex.query(Set.of("gaming"), Set.of(), Set.of()).isEmpty()).isTrue();
+  }
+
+  @Test
+  void testCounts() {
+    assertThat(interestIndex.count(Set.of(), Set.of("music"), Set.of())).isEqualTo(2);
+    assertThat(interestIndex.counts())
+        .isEqualTo(Map.of("music", 2, "sports", 2, "technology", 1));
+  }
+
+  @Test
+  void testUpdateReplacesInterests() {
+    interestIndex.update(1L, List.of("technology"), true);
+    interestIndex.update(3L, null, false);
+
+    assertThat(interestIndex.counts()).isEqualTo(Map.of("music", 1, "technology", 2));
+  }
+
+  @Test
+  void testRollbackRevertsChanges() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      interestIndex.update(1L, Set.of("gaming"), true);
+      interestIndex.update(5L, Set.of("music"), true);
+      TransactionSynchronizationManager.getSynchronizations().forEach(
+          sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(interestIndex.counts())
+        .isEqualTo(Map.of("music", 2, "sports", 2, "technology", 1));
+  }
+}
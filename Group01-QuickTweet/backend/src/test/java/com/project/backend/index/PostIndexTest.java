@@ -0,0 +1,93 @@
+package com.project.backend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+public class PostIndexTest {
+
+  private PostIndex postIndex;
+
+  @BeforeEach
+  void setUp() {
+    postIndex = new PostIndex();
+    postIndex.index(1L, 10L, "Hello, world!");
+    postIndex.index(2L, 10L, "Hello there");
+    postIndex.index(3L, 20L, "World cup tonight");
+  }
+
+  @Test
+  void testTokenize() {
+    assertThat(PostIndex.tokenize("Hello, WORLD! hello #café-2024"))
+        .containsExactly("hello", "world", "café", "2024");
+  }
+
+  @Test
+  void testSearchMatchesPrefixesNewestFirst() {
+    assertThat(postIndex.search("wor", List.of(10L, 20L), 10)).containsExactly(3L, 1L);
+    assertThat(postIndex.search("hello wor", List.of(10L, 20L), 10)).containsExactly(1L);
+  }
+
+  @Test
+  void testSearchMatchesInsideWords() {
+    postIndex.index(4L, 20L, "Tweets about tweeting");
+
+    assertThat(postIndex.search("orld", List.of(10L, 20L), 10)).containsExactly(3L, 1L);
+    assertThat(postIndex.search("weet", List.of(10L, 20L), 10)).containsExactly(4L);
+    assertThat(postIndex.search("ELL ere", List.of(10L, 20L), 10)).containsExactly(2L);
+    assertThat(postIndex.search("ldw", List.of(10L, 20L), 10)).isEmpty();
+  }
+
+  @Test
+  void testSearchFiltersAuthorsAndLimits() {
+    assertThat(postIndex.search("world", List.of(10L), 10)).containsExactly(1L);
+    assertThat(postIndex.search("hello", List.of(10L, 20L), 1)).containsExactly(2L);
+  }
+
+  @Test
+  void testReindexAndRemove() {
+    postIndex.index(1L, 10L, "Goodbye");
+    postIndex.remove(2L);
+
+    assertThat(postIndex.search("hello", List.of(10L, 20L), 10)).isEmpty();
+    assertThat(postIndex.search("good", List.of(10L), 10)).containsExactly(1L);
+    assertThat(postIndex.size()).isEqualTo(2);
+  }
+
+  @Test
+  void testSearchMergesPrefixTermsOnce() {
+    postIndex.index(4L, 20L, "Help, hello?");
+
+    assertThat(postIndex.search("hel", List.of(10L, 20L), 10)).containsExactly(4L, 2L, 1L);
+  }
+
+  @Test
+  void testRollbackRevertsChanges() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      postIndex.index(4L, 20L, "Hello again");
+      postIndex.index(1L, 10L, "Goodbye");
+      postIndex.remove(2L);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(postIndex.search("hello", List.of(10L, 20L), 10)).containsExactly(2L, 1L);
+    assertThat(postIndex.search("good", List.of(10L), 10)).isEmpty();
+    assertThat(postIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  void testMatches() {
+    assertThat(PostIndex.matches("hel wor", "Hello, world!")).isTrue();
+    assertThat(PostIndex.matches("orld", "Hello, world!")).isTrue();
+    assertThat(PostIndex.matches("hello moon", "Hello, world!")).isFalse();
+  }
+}
@@ -0,0 +1,57 @@
+package com.project.backend.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class UsernameIndexTest {
+
+  private UsernameIndex usernameIndex;
+
+  @BeforeEach
+  void setUp() {
+    usernameIndex = new UsernameIndex();
+    usernameIndex.update(1L, "Alexander", true);
+    usernameIndex.update(2L, "alex", true);
+    usernameIndex.update(3L, "Xander", true);
+  }
+
+  @Test
+  void testSearchShortQuery() {
+    assertThat(usernameIndex.search("x", 10)).containsExactly(3L, 2L, 1L);
+  }
+
+  @Test
+  void testSearchLongQueryRanksPrefixFirst() {
+    assertThat(usernameIndex.suggest("XANDER", 10)).containsExactly("Xander", "Alexander");
+    assertThat(usernameIndex.suggest("alexa", 10)).containsExactly("Alexander");
+    assertThat(usernameIndex.suggest("andrew", 10)).isEmpty();
+  }
+
+  @Test
+  void testUpdateAndRemove() {
+    usernameIndex.update(2L, "alex", false);
+    usernameIndex.update(4L, "lexi", true);
+
+    assertThat(usernameIndex.suggest("lex", 10)).containsExactly("lexi", "Alexander");
+    assertThat(usernameIndex.size()).isEqualTo(3);
+  }
+
+  @Test
+  void testRollbackRevertsChanges() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      usernameIndex.update(2L, "alex", false);
+      usernameIndex.update(4L, "lexi", true);
+      TransactionSynchronizationManager.getSynchronizations().forEach(
+          sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(usernameIndex.suggest("lex", 10)).containsExactly("alex", "Alexander");
+  }
+}
@@ -0,0 +1,77 @@
+package com.project.backend.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.backend.model.QueryShape;
+
+public class QueryLogTest {
+
+  private static final Comparator<QueryShape> BY_TOTAL =
+      Comparator.comparingDouble(QueryShape::totalMillis).reversed();
+
+  private QueryLog queryLog;
+
+  @BeforeEach
+  void setUp() {
+    queryLog = new QueryLog(200, 0, 2);
+  }
+
+  @Test
+  void testFingerprintLeavesOutLiterals() {
+    assertThat(QueryLog.fingerprint(
+        "select *  from app_user\n where username = 'o''brien' and id > 42 and score < 1.5"))
+        .isEqualTo("select * from app_user where username = ? and id > ? and score < ?");
+  }
+
+  @Test
+  void testFingerprintCollapsesInLists() {
+    assertThat(QueryLog.fingerprint("delete from app_user where id in (?, ?,?)"))
+        .isEqualTo(QueryLog.fingerprint("delete from app_user where id IN (?)"));
+  }
+
+  @Test
+  void testFingerprintKeepsIdentifiersWithDigits() {
+    assertThat(QueryLog.fingerprint("select a1_0.id from app_user a1_0 where a1_0.id=?"))
+        .isEqualTo("select a1_0.id from app_user a1_0 where a1_0.id=?");
+  }
+
+  @Test
+  void testRecordAggregatesByFingerprint() {
+    queryLog.record("select * from post where id = 1", 2_000_000);
+    queryLog.record("select * from post where id = 2", 4_000_000);
+    queryLog.record("select * from app_user", 1_000_000);
+
+    List<QueryShape> shapes = queryLog.top(10, BY_TOTAL);
+    assertThat(shapes).hasSize(2);
+    assertThat(shapes.get(0).fingerprint()).isEqualTo("select * from post where id = ?");
+    assertThat(shapes.get(0).count()).isEqualTo(2);
+    assertThat(shapes.get(0).totalMillis()).isEqualTo(6.0);
+    assertThat(shapes.get(0).meanMillis()).isEqualTo(3.0);
+    assertThat(shapes.get(0).maxMillis()).isEqualTo(4.0);
+  }
+
+  @Test
+  void testTopHonorsLimit() {
+    queryLog.record("select * from post", 1_000_000);
+    queryLog.record("select * from app_user", 2_000_000);
+
+    assertThat(queryLog.top(1, BY_TOTAL)).extracting(QueryShape::fingerprint)
+        .containsExactly("select * from app_user");
+  }
+
+  @Test
+  void testRecordStopsTrackingNewShapesWhenFull() {
+    queryLog.record("select * from post", 1_000_000);
+    queryLog.record("select * from app_user", 1_000_000);
+    queryLog.record("select * from friends", 1_000_000);
+    queryLog.record("select * from post", 1_000_000);
+
+    assertThat(queryLog.top(10, BY_TOTAL)).extracting(QueryShape::fingerprint)
+        .containsExactlyInAnyOrder("select * from post", "select * from app_user");
+  }
+}
@@ -0,0 +1,43 @@
+package com.project.backend.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.backend.model.QueryShape;
+import com.project.backend.repository.UserRepository;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@Transactional
+public class TimedDataSourceTest {
+
+  @Autowired
+  private QueryLog queryLog;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @BeforeEach
+  void setUp() {
+    queryLog.clear();
+  }
+
+  @Test
+  void testStatementsAreRecorded() {
+    userRepository.findByUsername("nobody1");
+    userRepository.findByUsername("nobody2");
+
+    assertThat(queryLog.top(10, Comparator.comparingLong(QueryShape::count).reversed()))
+        .anySatisfy(shape -> {
+          assertThat(shape.fingerprint()).contains("app_user").doesNotContain("nobody");
+          assertThat(shape.count()).isEqualTo(2);
+        });
+  }
+}
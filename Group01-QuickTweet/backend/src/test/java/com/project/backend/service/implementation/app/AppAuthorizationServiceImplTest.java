@@ -2,14 +2,22 @@ package com.project.backend.service.implementation.app;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
-import com.project.backend.model.AppAuthorization;
+import com.project.backend.index.InterestIndex;
+import com.project.backend.index.UsernameIndex;
 import com.project.backend.model.AppUser;
-import com.project.backend.repository.AppAuthorizationRepository;
+import com.project.backend.model.RequestBatch;
+import com.project.backend.model.RequestDecision;
+import com.project.backend.model.RequestDecision.Outcome;
+import com.project.backend.model.UserListing;
+import com.project.backend.model.UserPage;
 import com.project.backend.repository.UserRepository;
 import com.project.backend.service.implementation.AppAuthorizationServiceImpl;
 import jakarta.transaction.Transactional;
@@ -18,15 +26,18 @@ import jakarta.transaction.Transactional;
 @AutoConfigureTestDatabase
 @Transactional
 public class AppAuthorizationServiceImplTest {
-  @Autowired
-  AppAuthorizationRepository appAuthorizationRepository;
-
   @Autowired
   AppAuthorizationServiceImpl service;
 
   @Autowired
   UserRepository userRepository;
 
+  @Autowired
+  UsernameIndex usernameIndex;
+
+  @Autowired
+  InterestIndex interestIndex;
+
   @Test
   void testGetPendingRequests() {
     AppUser admin =
@@ -40,40 +51,55 @@ public class AppAuthorizationServiceImplTest {
 
     admin.setPendingRequest(false);
     admin.setRole("ADMIN");
+    user1.setPendingRequest(true);
+    user2.setPendingRequest(true);
     userRepository.save(admin);
     userRepository.save(user1);
     userRepository.save(user2);
-    AppAuthorization app = new AppAuthorization();
-    app.addPendingRequest(user1);
-    app.addPendingRequest(user2);
-    app.setId(1L);
-    appAuthorizationRepository.save(app);
-    assertAll(() -> assertThat(service.getPendingRequests(admin.getUsername())).isNotNull(),
-        () -> assertThat(app.getId()).isEqualTo(1L),
-        () -> assertThat(service.getPendingRequests(admin.getUsername()).size()).isEqualTo(2),
-        () -> assertThat(service.getPendingRequests(admin.getUsername()).contains(user1)),
-        () -> assertThat(service.getPendingRequests(admin.getUsername()).contains(user2)));
+    UserPage firstPage = service.getPendingRequests(admin.getUsername(), 0, 1);
+    assertAll(() -> assertThat(firstPage.total()).isEqualTo(2),
+        () -> assertThat(firstPage.users()).extracting(UserListing::username)
+            .containsExactly("testUser"),
+        () -> assertThat(service.getPendingRequests(admin.getUsername(), 0, 20).users())
+            .extracting(UserListing::username).containsExactly("testUser", "testUser2"));
+  }
+
+  @Test
+  void testGetPendingRequestsAsNonAdmin() {
+    AppUser user =
+        new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    userRepository.save(user);
+
+    assertThrows(SecurityException.class,
+        () -> service.getPendingRequests("testUser", 0, 20));
   }
 
   @Test
   void testApprovePendingRequest() {
     AppUser user =
         new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    user.setPendingRequest(true);
 
     userRepository.save(user);
-    AppAuthorization app = new AppAuthorization();
-    app.setId(1L);
-    appAuthorizationRepository.save(app);
     assertThat(service.approvePendingRequest("testUser"))
         .isEqualTo(ResponseEntity.ok("User request has been approved."))
         .withFailMessage("Expected user request to be approved");
+    assertThat(userRepository.findByUsername("testUser").get().isPendingRequest()).isFalse();
+  }
+
+  @Test
+  void testApprovePendingRequestAlreadyHandled() {
+    AppUser user =
+        new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+
+    userRepository.save(user);
+    assertThat(service.approvePendingRequest("testUser"))
+        .isEqualTo(ResponseEntity.badRequest().body("User request has already been handled."))
+        .withFailMessage("Expected approval to fail");
   }
 
   @Test
   void testApprovePendingRequestWithInvalidUser() {
-    AppAuthorization app = new AppAuthorization();
-    app.setId(1L);
-    appAuthorizationRepository.save(app);
     assertThat(service.approvePendingRequest("testUser"))
         .isEqualTo(ResponseEntity.badRequest().body("User does not exist."))
         .withFailMessage("Expected approval to fail");
@@ -83,21 +109,75 @@ public class AppAuthorizationServiceImplTest {
   void testRejectPendingRequest() {
     AppUser user =
         new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    user.setPendingRequest(true);
 
     userRepository.save(user);
-    AppAuthorization app = new AppAuthorization();
-    app.setId(1L);
-    appAuthorizationRepository.save(app);
     assertThat(service.rejectPendingRequest("testUser"))
         .isEqualTo(ResponseEntity.ok("User request has been rejected"))
         .withFailMessage("Expected user request to be approved");
+    assertThat(userRepository.findByUsername("testUser")).isEmpty();
+  }
+
+  @Test
+  void testDecidePendingRequests() {
+    AppUser admin =
+        new AppUser("admin", "admin@dal.ca", "password", "ADMIN", "Question?", "Answer");
+    AppUser approved =
+        new AppUser("approved", "approved@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser toApprove =
+        new AppUser("toApprove", "toApprove@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser toReject =
+        new AppUser("toReject", "toReject@dal.ca", "password", "USER", "Question?", "Answer");
+    toApprove.setPendingRequest(true);
+    toApprove.setInterests(Set.of("chess"));
+    toReject.setPendingRequest(true);
+    toReject.setInterests(Set.of("chess"));
+    userRepository.save(admin);
+    userRepository.save(approved);
+    userRepository.save(toApprove);
+    userRepository.save(toReject);
+
+    List<RequestDecision> decisions = service.decidePendingRequests("admin",
+        new RequestBatch(Set.of("toApprove", "approved"), Set.of("toReject", "ghost")));
+
+    assertAll(
+        () -> assertThat(decisions).containsExactlyInAnyOrder(
+            new RequestDecision("toApprove", Outcome.APPROVED),
+            new RequestDecision("toReject", Outcome.REJECTED),
+            new RequestDecision("approved", Outcome.ALREADY_HANDLED),
+            new RequestDecision("ghost", Outcome.NOT_FOUND)),
+        () -> assertThat(userRepository.findByUsername("toApprove").get().isPendingRequest())
+            .isFalse(),
+        () -> assertThat(userRepository.findByUsername("toReject")).isEmpty(),
+        () -> assertThat(usernameIndex.search("toApprove", 10))
+            .containsExactly(toApprove.getId()),
+        () -> assertThat(interestIndex.interestsOf(toApprove.getId())).containsExactly("chess"));
+  }
+
+  @Test
+  void testDecidePendingRequestsInBothSets() {
+    AppUser admin =
+        new AppUser("admin", "admin@dal.ca", "password", "ADMIN", "Question?", "Answer");
+    userRepository.save(admin);
+
+    assertThrows(IllegalArgumentException.class, () -> service.decidePendingRequests("admin",
+        new RequestBatch(Set.of("testUser"), Set.of("testUser"))));
+    assertThrows(IllegalArgumentException.class,
+        () -> service.decidePendingRequests("admin", new RequestBatch(null, null)));
+  }
+
+  @Test
+  void testDecidePendingRequestsAsNonAdmin() {
+    AppUser user =
+        new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    userRepository.save(user);
+
+    assertThrows(SecurityException.class, () -> service.decidePendingRequests("testUser",
+        new RequestBatch(Set.of("testUser2"), Set.of())));
   }
 
   @Test
   void testRejectPendingRequestWithInvalidUser() {
-    AppAuthorization app = new AppAuthorization();
-    app.setId(1L);
-    appAuthorizationRepository.save(app);
     assertThat(service.rejectPendingRequest("testUser"))
         .isEqualTo(ResponseEntity.badRequest().body("User does not exist."))
         .withFailMessage("Expected approval to fail");
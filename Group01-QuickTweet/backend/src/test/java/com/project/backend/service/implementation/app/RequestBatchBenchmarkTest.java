@@ -0,0 +1,137 @@
+package com.project.backend.service.implementation.app;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.backend.cache.UserCache;
+import com.project.backend.model.AppUser;
+import com.project.backend.model.RequestBatch;
+import com.project.backend.model.RequestDecision;
+import com.project.backend.model.RequestDecision.Outcome;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.implementation.AppAuthorizationServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Decides on 10,000 pending registrations in one batch and on a sample of them one at a time, and
+ * logs the throughput of both. The batch must stay within a fixed number of statements per chunk
+ * of usernames, however many users it covers.
+ *
+ * <p>
+ * Tagged {@code load}, so it is left out of the default build and run with {@code -Pload}.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@Transactional
+@Tag("load")
+public class RequestBatchBenchmarkTest {
+  private static final Logger logger = LoggerFactory.getLogger(RequestBatchBenchmarkTest.class);
+  private static final int USERS = 10_000;
+  private static final int SAMPLE = 200;
+
+  @Autowired
+  private AppAuthorizationServiceImpl service;
+
+  @Autowired
+  private UserRepository repository;
+
+  @Autowired
+  private UserCache userCache;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    repository.save(new AppUser("benchAdmin", "benchAdmin@dal.ca", "password", "ADMIN",
+        "What is the name of your first pet?", "Leo"));
+    entityManager.flush();
+
+    jdbcTemplate.batchUpdate(
+        "insert into app_user (username, email, password, role, security_question, "
+            + "security_question_answer, pending_request) values (?, ?, 'password', 'USER', "
+            + "'What is the name of your first pet?', 'Leo', true)",
+        IntStream.range(0, USERS + SAMPLE)
+            .mapToObj(i -> new Object[] {"bench" + i, "bench" + i + "@dal.ca"}).toList());
+    jdbcTemplate.update("insert into app_user_interests (app_user_id, interests) "
+        + "select id, 'benchmarks' from app_user where username like 'bench%' "
+        + "and pending_request = true");
+
+    userCache.get("benchAdmin");
+    statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  public void testBatchDecisionThroughput() {
+    Set<String> approve = new HashSet<>();
+    Set<String> reject = new HashSet<>();
+    for (int i = 0; i < USERS; i++) {
+      (i % 2 == 0 ? approve : reject).add("bench" + i);
+    }
+
+    long start = System.nanoTime();
+    List<RequestDecision> decisions =
+        service.decidePendingRequests("benchAdmin", new RequestBatch(approve, reject));
+    entityManager.flush();
+    long batchNanos = System.nanoTime() - start;
+    long batchStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    List<String> sample = new ArrayList<>();
+    for (int i = USERS; i < USERS + SAMPLE; i++) {
+      sample.add("bench" + i);
+    }
+    start = System.nanoTime();
+    for (int i = 0; i < sample.size(); i++) {
+      if (i % 2 == 0) {
+        service.approvePendingRequest(sample.get(i));
+      } else {
+        service.rejectPendingRequest(sample.get(i));
+      }
+    }
+    entityManager.flush();
+    long singleNanos = System.nanoTime() - start;
+    long singleStatements = statistics.getPrepareStatementCount();
+
+    logger.info("Batch: {} users in {} ms, {} users/s, {} statements", USERS,
+        batchNanos / 1_000_000, USERS * 1_000_000_000L / batchNanos, batchStatements);
+    logger.info("One at a time: {} users in {} ms, {} users/s, {} statements", SAMPLE,
+        singleNanos / 1_000_000, SAMPLE * 1_000_000_000L / singleNanos, singleStatements);
+
+    // lock, approve, load interests, delete requests, and the user delete with its three
+    // collection tables
+    int chunks = USERS / 1000;
+    assertThat(decisions).hasSize(USERS)
+        .allMatch(d -> d.outcome() == (approve.contains(d.username()) ? Outcome.APPROVED
+            : Outcome.REJECTED));
+    assertThat(repository.countByPendingRequestTrue()).isZero();
+    assertThat(batchStatements).isLessThanOrEqualTo(8L * chunks);
+    assertThat(singleStatements).isGreaterThanOrEqualTo(2L * SAMPLE);
+  }
+}
@@ -0,0 +1,58 @@
+package com.project.backend.service.implementation.login;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.project.backend.config.AdaptivePasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AdaptivePasswordEncoderTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  public void testFixedStrength() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(5, 250, 4, 14, registry);
+
+    String hash = encoder.encode("password");
+
+    assertEquals(5, encoder.getStrength());
+    assertTrue(hash.startsWith("$2a$05$"));
+    assertTrue(encoder.matches("password", hash));
+    assertEquals(1, registry.timer("password.encode").count());
+    assertEquals(1, registry.timer("password.matches").count());
+  }
+
+  @Test
+  public void testBenchmarkStaysWithinBounds() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(0, 1, 4, 6, registry);
+
+    assertEquals(4, encoder.getStrength());
+    assertEquals(6, new AdaptivePasswordEncoder(0, 60000, 4, 6, registry).getStrength());
+  }
+
+  @Test
+  public void testUpgradeEncoding() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(5, 250, 4, 14, registry);
+
+    assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+    assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+    assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+    assertTrue(encoder.matches("password", new BCryptPasswordEncoder(6).encode("password")));
+    assertFalse(encoder.upgradeEncoding("plain"));
+    assertFalse(encoder.upgradeEncoding(null));
+  }
+
+  @Test
+  public void testBenchmarkedStrengthUpgradesLowerCostsOnly() {
+    AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(0, 60000, 4, 6, registry);
+
+    assertEquals(6, encoder.getStrength());
+    assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+    assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password")));
+    assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password")));
+    assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(7).encode("password")));
+  }
+}
@@ -2,21 +2,20 @@ package com.project.backend.service.implementation.login;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpHeaders;
 import com.project.backend.filter.JwtService;
+import com.project.backend.filter.SigningKeyRing;
 
 public class JwtServiceTest {
 
-
-  @InjectMocks
   JwtService jwtService;
 
   @Mock
@@ -25,6 +24,7 @@ public class JwtServiceTest {
   @BeforeEach
   public void setup() {
     MockitoAnnotations.openMocks(this);
+    jwtService = new JwtService(new SigningKeyRing("", "", "", 0));
   }
 
   @Test
@@ -46,4 +46,26 @@ public class JwtServiceTest {
 
     assertEquals(username, authUser);
   }
+
+  @Test
+  public void testGetAuthUserReusesVerifiedToken() {
+    String username = "testUser";
+    String token = jwtService.getToken(username);
+
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(JwtService.PREFIX + " " + token);
+
+    jwtService.getAuthUser(request);
+    String authUser = jwtService.getAuthUser(request);
+
+    assertEquals(username, authUser);
+    assertEquals(1, jwtService.stats().hitCount());
+    assertEquals(1, jwtService.stats().missCount());
+  }
+
+  @Test
+  public void testGetAuthUserWithoutToken() {
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(null);
+
+    assertNull(jwtService.getAuthUser(request));
+  }
 }
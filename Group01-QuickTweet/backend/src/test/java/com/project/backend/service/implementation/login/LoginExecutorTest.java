@@ -0,0 +1,95 @@
+package com.project.backend.service.implementation.login;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import com.project.backend.error.LoginRejectedException;
+import com.project.backend.filter.LoginExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LoginExecutorTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private LoginExecutor loginExecutor;
+
+  @AfterEach
+  public void tearDown() {
+    loginExecutor.destroy();
+  }
+
+  @Test
+  public void testAuthenticateReturnsResult() throws Exception {
+    loginExecutor = new LoginExecutor(2, 4, 1000, registry);
+
+    assertEquals("root", loginExecutor.authenticate(() -> "root"));
+    assertEquals(1, registry.timer("login.authenticate").count());
+    assertEquals(1, registry.timer("login.wait").count());
+  }
+
+  @Test
+  public void testAuthenticatePropagatesFailure() {
+    loginExecutor = new LoginExecutor(2, 4, 1000, registry);
+
+    assertThrows(BadCredentialsException.class, () -> loginExecutor.authenticate(() -> {
+      throw new BadCredentialsException("Bad credentials");
+    }));
+  }
+
+  @Test
+  public void testAuthenticateRejectsWhenSaturated() throws Exception {
+    loginExecutor = new LoginExecutor(1, 0, 1000, registry);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+      try {
+        return loginExecutor.authenticate(() -> {
+          started.countDown();
+          release.await();
+          return "first";
+        });
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    LoginRejectedException rejected =
+        assertThrows(LoginRejectedException.class, () -> loginExecutor.authenticate(() -> "second"));
+    assertEquals(1, rejected.getRetryAfterSeconds());
+    assertEquals(1, registry.counter("login.rejected").count());
+
+    release.countDown();
+    assertEquals("first", first.get(5, TimeUnit.SECONDS));
+    assertEquals("third", loginExecutor.authenticate(() -> "third"));
+  }
+
+  @Test
+  public void testAuthenticateRejectsAfterMaxWait() throws Exception {
+    loginExecutor = new LoginExecutor(1, 1, 50, registry);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture.runAsync(() -> {
+      try {
+        loginExecutor.authenticate(() -> {
+          started.countDown();
+          return release.await(5, TimeUnit.SECONDS);
+        });
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    assertThrows(LoginRejectedException.class, () -> loginExecutor.authenticate(() -> "queued"));
+    assertEquals(0, loginExecutor.getQueueDepth());
+    release.countDown();
+  }
+}
@@ -0,0 +1,102 @@
+package com.project.backend.service.implementation.login;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import com.project.backend.model.AppUser;
+import com.project.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Counts the statements each login outcome sends to the database. Logins run on the login
+ * executor, outside the test's thread, so the users are committed and removed after each test.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+public class LoginQueryCountTest {
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserRepository repository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    AppUser approved = new AppUser("approved", "approved@dal.ca",
+        passwordEncoder.encode("dsadsa@A1"), "USER", "What is the name of your first pet?", "Leo");
+    AppUser pending = new AppUser("pending", "pending@dal.ca",
+        passwordEncoder.encode("dsadsa@A1"), "USER", "What is the name of your first pet?", "Leo");
+    pending.setPendingRequest(true);
+    repository.save(approved);
+    repository.save(pending);
+
+    statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    repository.findByUsername("approved").ifPresent(repository::delete);
+    repository.findByUsername("pending").ifPresent(repository::delete);
+  }
+
+  @Test
+  public void testLoginIssuesOneQuery() throws Exception {
+    login("approved", "dsadsa@A1", status().isOk());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testWrongPasswordIssuesOneQuery() throws Exception {
+    login("approved", "wrongPassword", status().isUnauthorized());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testPendingUserIssuesOneQuery() throws Exception {
+    login("pending", "dsadsa@A1", status().isForbidden());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testUnknownUserIsQueriedOnce() throws Exception {
+    login("unknown", "dsadsa@A1", status().isUnauthorized());
+    login("unknown", "dsadsa@A1", status().isUnauthorized());
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  private void login(String username, String password, ResultMatcher expected) throws Exception {
+    String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+    mockMvc.perform(post("/login").content(body).contentType(MediaType.APPLICATION_JSON))
+        .andExpect(expected);
+  }
+}
@@ -0,0 +1,128 @@
+package com.project.backend.service.implementation.login;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.FileOutputStream;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import com.project.backend.filter.JwtService;
+import com.project.backend.filter.SigningKeyRing;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+public class SigningKeyRingTest {
+  private static final String PASSWORD = "changeit";
+
+  @TempDir
+  Path dir;
+
+  @Test
+  public void testTokenVerifiesOnAnotherNode() throws Exception {
+    Path keystore = dir.resolve("jwt.p12");
+    KeyStore store = emptyStore();
+    addKey(store, "k1");
+    save(store, keystore, 1000);
+
+    JwtService nodeA = new JwtService(new SigningKeyRing(keystore.toString(), PASSWORD, "", 0));
+    JwtService nodeB = new JwtService(new SigningKeyRing(keystore.toString(), PASSWORD, "", 0));
+
+    assertEquals("testUser", nodeB.getAuthUser(request(nodeA.getToken("testUser"))));
+  }
+
+  @Test
+  public void testRotationKeepsInFlightTokens() throws Exception {
+    Path keystore = dir.resolve("jwt.p12");
+    KeyStore store = emptyStore();
+    addKey(store, "k1");
+    save(store, keystore, 1000);
+
+    SigningKeyRing ring = new SigningKeyRing(keystore.toString(), PASSWORD, "", 3000);
+    JwtService jwtService = new JwtService(ring);
+    String oldToken = jwtService.getToken("testUser");
+
+    addKey(store, "k2");
+    save(store, keystore, 2000);
+    ring.refresh();
+
+    // other nodes may not have loaded k2 yet
+    assertEquals("k1", ring.activeKeyId());
+
+    Thread.sleep(3100);
+    ring.refresh();
+
+    assertEquals("k2", ring.activeKeyId());
+    String newToken = jwtService.getToken("testUser");
+    assertNotEquals(oldToken, newToken);
+    assertEquals("testUser", jwtService.getAuthUser(request(oldToken)));
+    assertEquals("testUser", jwtService.getAuthUser(request(newToken)));
+  }
+
+  @Test
+  public void testRetiredKeyIsRejected() throws Exception {
+    Path keystore = dir.resolve("jwt.p12");
+    KeyStore store = emptyStore();
+    addKey(store, "k1");
+    save(store, keystore, 1000);
+
+    SigningKeyRing ring = new SigningKeyRing(keystore.toString(), PASSWORD, "", 0);
+    JwtService jwtService = new JwtService(ring);
+    HttpServletRequest request = request(jwtService.getToken("testUser"));
+    jwtService.getAuthUser(request);
+
+    Thread.sleep(5);
+    addKey(store, "k2");
+    store.deleteEntry("k1");
+    save(store, keystore, 2000);
+    ring.refresh();
+
+    assertThrows(SignatureException.class, () -> jwtService.getAuthUser(request));
+  }
+
+  @Test
+  public void testConfiguredSigningKey() throws Exception {
+    Path keystore = dir.resolve("jwt.p12");
+    KeyStore store = emptyStore();
+    addKey(store, "k1");
+    Thread.sleep(5);
+    addKey(store, "k2");
+    save(store, keystore, 1000);
+
+    assertEquals("k1", new SigningKeyRing(keystore.toString(), PASSWORD, "k1", 0).activeKeyId());
+    assertEquals("k2", new SigningKeyRing(keystore.toString(), PASSWORD, "", 0).activeKeyId());
+    assertThrows(IllegalStateException.class,
+        () -> new SigningKeyRing(keystore.toString(), PASSWORD, "missing", 0));
+  }
+
+  private static KeyStore emptyStore() throws Exception {
+    KeyStore store = KeyStore.getInstance("PKCS12");
+    store.load(null, null);
+    return store;
+  }
+
+  private static void addKey(KeyStore store, String alias) throws Exception {
+    store.setEntry(alias, new KeyStore.SecretKeyEntry(Keys.secretKeyFor(SignatureAlgorithm.HS256)),
+        new KeyStore.PasswordProtection(PASSWORD.toCharArray()));
+  }
+
+  private static void save(KeyStore store, Path keystore, long modified) throws Exception {
+    try (FileOutputStream out = new FileOutputStream(keystore.toFile())) {
+      store.store(out, PASSWORD.toCharArray());
+    }
+    keystore.toFile().setLastModified(modified);
+  }
+
+  private static HttpServletRequest request(String token) {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(JwtService.PREFIX + " " + token);
+    return request;
+  }
+}
@@ -3,10 +3,10 @@ package com.project.backend.service.implementation.login;
 import org.junit.jupiter.api.Test;
 import com.project.backend.config.UserDetailsServiceImpl;
 import com.project.backend.model.AppUser;
+import com.project.backend.model.UserCredentials;
 
 import com.project.backend.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,7 +19,6 @@ import static org.mockito.Mockito.*;
 
 public class UserDetailsServiceImplTest {
 
-  @InjectMocks
   UserDetailsServiceImpl userDetailsService;
 
   @Mock
@@ -28,6 +27,7 @@ public class UserDetailsServiceImplTest {
   @BeforeEach
   public void setup() {
     MockitoAnnotations.openMocks(this);
+    userDetailsService = new UserDetailsServiceImpl(userRepository, 100, 60);
   }
 
   @Test
@@ -35,21 +35,61 @@ public class UserDetailsServiceImplTest {
     AppUser user = new AppUser("root", "root@dal.ca", "password", "admin",
         "What is the name of your first pet?", "Leo");
 
-    when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+    when(userRepository.findCredentialsByUsername(user.getUsername()))
+        .thenReturn(Optional.of(credentials(user)));
 
     UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
 
     assertNotNull(userDetails);
     assertEquals(user.getUsername(), userDetails.getUsername());
     assertEquals(user.getPassword(), userDetails.getPassword());
+    assertTrue(userDetails.isEnabled());
+    verify(userRepository, never()).findByUsername(any());
+  }
+
+  @Test
+  public void testLoadPendingUserIsDisabled() {
+    AppUser user = new AppUser("root", "root@dal.ca", "password", "admin",
+        "What is the name of your first pet?", "Leo");
+    user.setPendingRequest(true);
+
+    when(userRepository.findCredentialsByUsername(user.getUsername()))
+        .thenReturn(Optional.of(credentials(user)));
+
+    assertFalse(userDetailsService.loadUserByUsername(user.getUsername()).isEnabled());
   }
 
   @Test
   public void testLoadUserByUsernameNotFound() {
     String username = "nonexistent";
-    when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
+    when(userRepository.findCredentialsByUsername(username)).thenReturn(Optional.empty());
 
     assertThrows(UsernameNotFoundException.class,
         () -> userDetailsService.loadUserByUsername(username));
+    assertThrows(UsernameNotFoundException.class,
+        () -> userDetailsService.loadUserByUsername(username));
+    verify(userRepository, times(1)).findCredentialsByUsername(username);
+  }
+
+  @Test
+  public void testUpdatePassword() {
+    AppUser user = new AppUser("root", "root@dal.ca", "password", "admin",
+        "What is the name of your first pet?", "Leo");
+
+    when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+    when(userRepository.findCredentialsByUsername(user.getUsername()))
+        .thenReturn(Optional.of(credentials(user)));
+
+    UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
+    UserDetails updated = userDetailsService.updatePassword(userDetails, "rehashed");
+
+    assertEquals("rehashed", updated.getPassword());
+    assertEquals("rehashed", user.getPassword());
+    verify(userRepository).save(user);
+  }
+
+  private static UserCredentials credentials(AppUser user) {
+    return new UserCredentials(user.getId(), user.getUsername(), user.getPassword(),
+        user.getRole(), user.isPendingRequest());
   }
 }
@@ -1,11 +1,18 @@
 package com.project.backend.service.implementation.post;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.project.backend.index.FriendGraph;
 import com.project.backend.model.AppUser;
+import com.project.backend.model.FeedPage;
 import com.project.backend.model.Post;
+import com.project.backend.model.PostView;
 import com.project.backend.repository.UserRepository;
 import com.project.backend.service.implementation.PostServiceImplementation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -13,6 +20,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @SpringBootTest
 @AutoConfigureTestDatabase
@@ -25,6 +33,12 @@ public class PostServiceImplTest {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private FriendGraph friendGraph;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
   @Test
   void testCreatePost() {
     AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
@@ -95,6 +109,138 @@ public class PostServiceImplTest {
     assertThat(foundPosts).isNull();
   }
 
+  @Test
+  void testGetFeedPaginates() {
+    AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    userRepository.save(user);
+    for (int i = 0; i < 7; i++) {
+      postService.createPost(user.getUsername(), new Post("Post " + i));
+    }
+
+    FeedPage firstPage = postService.getFeed(user.getUsername(), null, 5);
+    assertThat(firstPage.posts()).hasSize(5);
+    assertThat(firstPage.posts().get(0).content()).isEqualTo("Post 6");
+    assertThat(firstPage.nextCursor()).isNotNull();
+
+    FeedPage secondPage = postService.getFeed(user.getUsername(), firstPage.nextCursor(), 5);
+    assertThat(secondPage.posts()).extracting(PostView::content).containsExactly("Post 1", "Post 0");
+    assertThat(secondPage.nextCursor()).isNull();
+  }
+
+  @Test
+  void testGetFeedIncludesFriends() {
+    AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser friend = new AppUser("friend", "friend@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser stranger = new AppUser("stranger", "stranger@dal.ca", "password", "USER", "Question?", "Answer");
+    userRepository.save(user);
+    userRepository.save(friend);
+    userRepository.save(stranger);
+    user.addFriend(friend);
+    friend.addFriend(user);
+    userRepository.save(user);
+
+    postService.createPost(user.getUsername(), new Post("Own post"));
+    postService.createPost(friend.getUsername(), new Post("Friend post"));
+    postService.createPost(stranger.getUsername(), new Post("Stranger post"));
+
+    FeedPage page = postService.getFeed(user.getUsername(), null, 5);
+    assertThat(page.posts()).extracting(PostView::content).containsExactly("Friend post", "Own post");
+    assertThat(page.posts().get(0).user().username()).isEqualTo("friend");
+  }
+
+  @Test
+  void testGetFeedLeavesAuthorInterestsUnloaded() {
+    AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    user.setInterests(Set.of("sports", "music"));
+    userRepository.save(user);
+    postService.createPost(user.getUsername(), new Post("Own post"));
+    entityManager.flush();
+    entityManager.clear();
+
+    FeedPage page = postService.getFeed(user.getUsername(), null, 5);
+    assertThat(page.posts()).extracting(PostView::content).containsExactly("Own post");
+    AppUser author = entityManager.find(AppUser.class, user.getId());
+    assertThat(Hibernate.isInitialized(author.getInterests())).isFalse();
+  }
+
+  @Test
+  void testGetFeedReflectsWritesToCachedFeed() {
+    AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser friend = new AppUser("friend", "friend@dal.ca", "password", "USER", "Question?", "Answer");
+    userRepository.save(user);
+    userRepository.save(friend);
+    user.addFriend(friend);
+    friend.addFriend(user);
+    userRepository.save(user);
+    friendGraph.addFriendship(user.getId(), friend.getId());
+
+    Post first = postService.createPost(friend.getUsername(), new Post("First"));
+    assertThat(postService.getFeed(user.getUsername(), null, 5).posts()).hasSize(1);
+
+    Post second = postService.createPost(friend.getUsername(), new Post("Second"));
+    postService.updatePost("First edited", first.getId());
+    assertThat(postService.getFeed(user.getUsername(), null, 5).posts())
+        .extracting(PostView::content).containsExactly("Second", "First edited");
+
+    postService.deletePost(second.getId());
+    assertThat(postService.getFeed(user.getUsername(), null, 5).posts())
+        .extracting(PostView::content).containsExactly("First edited");
+  }
+
+  @Test
+  void testSearchFeed() {
+    AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser friend = new AppUser("friend", "friend@dal.ca", "password", "USER", "Question?", "Answer");
+    AppUser stranger = new AppUser("stranger", "stranger@dal.ca", "password", "USER", "Question?", "Answer");
+    friend.setInterests(Set.of("Hiking"));
+    userRepository.save(user);
+    userRepository.save(friend);
+    userRepository.save(stranger);
+    user.addFriend(friend);
+    friend.addFriend(user);
+    userRepository.save(user);
+
+    postService.createPost(user.getUsername(), new Post("Tweeting about hiking"));
+    Post edited = postService.createPost(friend.getUsername(), new Post("Weekend plans"));
+    postService.createPost(friend.getUsername(), new Post("Hiking trip photos"));
+    postService.createPost(stranger.getUsername(), new Post("Hiking alone"));
+    postService.updatePost("Tweeted hiking plans", edited.getId());
+
+    assertThat(postService.searchFeed(user.getUsername(), "HIK", null, null, 10))
+        .extracting(PostView::content)
+        .containsExactly("Hiking trip photos", "Tweeted hiking plans", "Tweeting about hiking");
+    assertThat(postService.searchFeed(user.getUsername(), "tweet hiking", null, null, 10))
+        .extracting(PostView::content)
+        .containsExactly("Tweeted hiking plans", "Tweeting about hiking");
+    assertThat(postService.searchFeed(user.getUsername(), "weet king", null, null, 10))
+        .extracting(PostView::content)
+        .containsExactly("Tweeted hiking plans", "Tweeting about hiking");
+    assertThat(postService.searchFeed(user.getUsername(), "hiking", "fri", null, 10))
+        .extracting(PostView::content).containsExactly("Hiking trip photos", "Tweeted hiking plans");
+    assertThat(postService.searchFeed(user.getUsername(), "", null, "hik", 1))
+        .extracting(PostView::content).containsExactly("Hiking trip photos");
+    assertThat(postService.searchFeed(user.getUsername(), "weekend", null, null, 10)).isEmpty();
+  }
+
+  @Test
+  void testSearchFeedWithNonexistentUser() {
+    assertThat(postService.searchFeed("nonexistentUser", "hiking", null, null, 10)).isNull();
+  }
+
+  @Test
+  void testGetFeedWithNonexistentUser() {
+    assertThat(postService.getFeed("nonexistentUser", null, 5)).isNull();
+  }
+
+  @Test
+  void testGetFeedWithInvalidCursor() {
+    AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
+    userRepository.save(user);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> postService.getFeed(user.getUsername(), "not-a-cursor", 5));
+  }
+
   @Test
   void testUpdatePost() {
     AppUser user = new AppUser("testUser", "testUser@dal.ca", "password", "USER", "Question?", "Answer");
@@ -0,0 +1,145 @@
+package com.project.backend.service.implementation.purge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.backend.model.AppUser;
+import com.project.backend.model.Post;
+import com.project.backend.model.PurgeJob;
+import com.project.backend.model.PurgeProgress;
+import com.project.backend.repository.PostRepository;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.UserService;
+import com.project.backend.service.implementation.PostServiceImplementation;
+import com.project.backend.service.implementation.PurgeServiceImpl;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@SpringBootTest(properties = {"quicktweet.purge.chunk-size=2",
+    "quicktweet.purge.interval-ms=3600000"})
+@AutoConfigureTestDatabase
+@Transactional
+public class PurgeServiceImplTest {
+  @Autowired
+  private PurgeServiceImpl purgeService;
+
+  @Autowired
+  private PostServiceImplementation postService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @SpyBean
+  private UserService userService;
+
+  private AppUser admin;
+
+  @BeforeEach
+  void setUp() {
+    admin = saveUser("purgeAdmin", "ADMIN");
+  }
+
+  private AppUser saveUser(String username, String role) {
+    return userRepository
+        .save(new AppUser(username, username + "@dal.ca", "password", role, "Question?", "Answer"));
+  }
+
+  @Test
+  void testPurgeRunsInChunksUntilComplete() {
+    AppUser first = saveUser("first", "USER");
+    AppUser second = saveUser("second", "USER");
+    AppUser third = saveUser("third", "USER");
+    first.addFriend(admin);
+    admin.addFriend(first);
+    userRepository.save(first);
+    Long postId = postService.createPost("third", new Post("Goodbye")).getId();
+
+    PurgeProgress started = purgeService.startPurge("purgeAdmin",
+        Set.of(first.getId(), second.getId(), third.getId(), Long.MAX_VALUE, admin.getId()));
+    assertThat(started.total()).isEqualTo(4);
+    assertThat(started.status()).isEqualTo(PurgeJob.Status.RUNNING);
+
+    assertThat(purgeService.processNextChunk()).isTrue();
+    PurgeProgress halfway = purgeService.getProgress("purgeAdmin", started.id());
+    assertThat(halfway.deleted()).isEqualTo(2);
+    assertThat(halfway.remaining()).isEqualTo(2);
+    assertThat(halfway.status()).isEqualTo(PurgeJob.Status.RUNNING);
+
+    assertThat(purgeService.processNextChunk()).isTrue();
+    PurgeProgress done = purgeService.getProgress("purgeAdmin", started.id());
+    assertThat(done.deleted()).isEqualTo(3);
+    assertThat(done.missing()).isEqualTo(1);
+    assertThat(done.remaining()).isZero();
+    assertThat(done.status()).isEqualTo(PurgeJob.Status.COMPLETED);
+    assertThat(purgeService.processNextChunk()).isFalse();
+
+    assertThat(userRepository.findById(admin.getId())).isPresent();
+    assertThat(userRepository.findFriendIds(admin.getId())).isEmpty();
+    assertThat(userRepository.findById(third.getId())).isEmpty();
+    assertThat(postRepository.findById(postId)).isEmpty();
+  }
+
+  @Test
+  void testPurgeSkipsAccountThatCannotBeDeleted() {
+    AppUser broken = saveUser("broken", "USER");
+    AppUser other = saveUser("other", "USER");
+    doThrow(new IllegalStateException("Cannot delete")).when(userService)
+        .deleteUsers(argThat(ids -> ids.contains(broken.getId())));
+
+    PurgeProgress started =
+        purgeService.startPurge("purgeAdmin", Set.of(broken.getId(), other.getId()));
+    assertThat(purgeService.processNextChunk()).isTrue();
+
+    PurgeProgress done = purgeService.getProgress("purgeAdmin", started.id());
+    assertThat(done.deleted()).isEqualTo(1);
+    assertThat(done.failed()).isEqualTo(1);
+    assertThat(done.remaining()).isZero();
+    assertThat(done.status()).isEqualTo(PurgeJob.Status.COMPLETED);
+    assertThat(userRepository.findById(broken.getId())).isPresent();
+    assertThat(userRepository.findById(other.getId())).isEmpty();
+  }
+
+  @Test
+  void testStartPurgeNotAdmin() {
+    AppUser user = saveUser("notAdmin", "USER");
+
+    assertThrows(SecurityException.class,
+        () -> purgeService.startPurge("notAdmin", Set.of(user.getId())));
+  }
+
+  @Test
+  void testStartPurgeOfOwnAccount() {
+    assertThrows(IllegalArgumentException.class,
+        () -> purgeService.startPurge("purgeAdmin", Set.of(admin.getId())));
+  }
+
+  @Test
+  void testResumeRunningJob() {
+    AppUser user = saveUser("waiting", "USER");
+    PurgeProgress started = purgeService.startPurge("purgeAdmin", Set.of(user.getId()));
+
+    assertThrows(IllegalStateException.class,
+        () -> purgeService.resumePurge("purgeAdmin", started.id()));
+  }
+
+  @Test
+  void testGetProgressOfUnknownJob() {
+    assertThrows(EntityNotFoundException.class,
+        () -> purgeService.getProgress("purgeAdmin", Long.MAX_VALUE));
+  }
+}
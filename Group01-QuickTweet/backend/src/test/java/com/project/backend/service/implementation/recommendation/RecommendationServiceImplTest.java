@@ -0,0 +1,99 @@
+package com.project.backend.service.implementation.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.backend.model.AppUser;
+import com.project.backend.model.FriendRecommendation;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.implementation.RecommendationServiceImpl;
+import com.project.backend.service.implementation.UserServiceImpl;
+
+@SpringBootTest
+@AutoConfigureTestDatabase
+@Transactional
+public class RecommendationServiceImplTest {
+  @Autowired
+  private RecommendationServiceImpl recommendationService;
+
+  @Autowired
+  private UserServiceImpl userService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private AppUser saveUser(String username, String... interests) {
+    AppUser user =
+        new AppUser(username, username + "@dal.ca", "password", "USER", "Question?", "Answer");
+    user.setInterests(new HashSet<>(Arrays.asList(interests)));
+    return userRepository.save(user);
+  }
+
+  @Test
+  void testRecommendsFriendsOfFriendsByMutualCount() throws Exception {
+    saveUser("alice", "music");
+    saveUser("bob");
+    saveUser("carol");
+    saveUser("dave");
+    saveUser("erin", "music");
+    userService.addFriend("alice", "bob");
+    userService.addFriend("alice", "carol");
+    userService.addFriend("bob", "dave");
+    userService.addFriend("carol", "dave");
+    userService.addFriend("bob", "erin");
+
+    assertThat(recommendationService.getRecommendations("alice", 5))
+        .extracting(recommendation -> recommendation.user().username())
+        .containsExactly("dave", "erin");
+
+    FriendRecommendation erin = recommendationService.getRecommendations("alice", 5).get(1);
+    assertThat(erin.mutualFriends()).isEqualTo(1);
+    assertThat(erin.sharedInterests()).isEqualTo(1);
+    assertThat(erin.score()).isEqualTo(1.5);
+  }
+
+  @Test
+  void testFriendshipChangesInvalidateRecommendations() throws Exception {
+    saveUser("alice");
+    saveUser("bob");
+    saveUser("carol");
+    userService.addFriend("alice", "bob");
+    userService.addFriend("bob", "carol");
+    assertThat(recommendationService.getRecommendations("alice", 5))
+        .extracting(recommendation -> recommendation.user().username()).containsExactly("carol");
+
+    userService.addFriend("alice", "carol");
+    assertThat(recommendationService.getRecommendations("alice", 5)).isEmpty();
+
+    userService.deleteFriend("bob", "carol");
+    userService.deleteFriend("alice", "carol");
+    assertThat(recommendationService.getRecommendations("alice", 5)).isEmpty();
+  }
+
+  @Test
+  void testRecommendsSharedInterestsWithoutFriends() {
+    saveUser("alice", "music", "sports");
+    saveUser("bob", "music");
+    saveUser("carol", "music", "sports");
+    saveUser("dave", "gaming");
+
+    assertThat(recommendationService.getRecommendations("alice", 1))
+        .extracting(recommendation -> recommendation.user().username()).containsExactly("carol");
+  }
+
+  @Test
+  void testRecommendationsForNonexistentUser() {
+    assertThrows(UsernameNotFoundException.class,
+        () -> recommendationService.getRecommendations("nonexistentUser", 5));
+  }
+}
@@ -0,0 +1,234 @@
+package com.project.backend.service.implementation.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.backend.index.FriendGraph;
+import com.project.backend.model.AppUser;
+import com.project.backend.model.FeedCursor;
+import com.project.backend.model.Post;
+import com.project.backend.model.TimelineStats;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.implementation.PostServiceImplementation;
+import com.project.backend.service.implementation.TimelineServiceImpl;
+
+@SpringBootTest(properties = {"quicktweet.timeline.inbox-capacity=3",
+    "quicktweet.timeline.celebrity-threshold=1"})
+@AutoConfigureTestDatabase
+@Transactional
+public class TimelineServiceImplTest {
+  @Autowired
+  private TimelineServiceImpl timelineService;
+
+  @Autowired
+  private PostServiceImplementation postService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private FriendGraph friendGraph;
+
+  private AppUser saveUser(String username) {
+    AppUser user =
+        new AppUser(username, username + "@dal.ca", "password", "USER", "Question?", "Answer");
+    return userRepository.save(user);
+  }
+
+  private void makeFriends(AppUser user, AppUser friend) {
+    user.addFriend(friend);
+    friend.addFriend(user);
+    userRepository.save(user);
+    friendGraph.addFriendship(user.getId(), friend.getId());
+  }
+
+  private List<String> timelineContents(AppUser owner) {
+    return timelineService.getTimeline(owner.getId(), null, 10).stream().map(Post::getContent)
+        .toList();
+  }
+
+  @Test
+  void testFanOutReachesFriendsAndAuthor() {
+    AppUser author = saveUser("author");
+    AppUser friend = saveUser("friend");
+    AppUser stranger = saveUser("stranger");
+    makeFriends(author, friend);
+
+    postService.createPost(author.getUsername(), new Post("Hello friends"));
+
+    assertThat(timelineContents(author)).containsExactly("Hello friends");
+    assertThat(timelineContents(friend)).containsExactly("Hello friends");
+    assertThat(timelineContents(stranger)).isEmpty();
+  }
+
+  @Test
+  void testGetTimelineWithCursor() {
+    AppUser author = saveUser("author");
+    Post first = postService.createPost(author.getUsername(), new Post("First"));
+    Post second = postService.createPost(author.getUsername(), new Post("Second"));
+
+    List<Post> older = timelineService.getTimeline(author.getId(), FeedCursor.of(second), 10);
+
+    assertThat(older).containsExactly(first);
+  }
+
+  @Test
+  void testRemovePost() {
+    AppUser author = saveUser("author");
+    AppUser friend = saveUser("friend");
+    makeFriends(author, friend);
+    Post post = postService.createPost(author.getUsername(), new Post("Deleted soon"));
+
+    postService.deletePost(post.getId());
+
+    assertThat(timelineContents(author)).isEmpty();
+    assertThat(timelineContents(friend)).isEmpty();
+  }
+
+  @Test
+  void testFollowBackfillsAndUnfollowRemoves() {
+    AppUser author = saveUser("author");
+    AppUser reader = saveUser("reader");
+    postService.createPost(author.getUsername(), new Post("Before friendship"));
+    assertThat(timelineContents(reader)).isEmpty();
+
+    timelineService.follow(reader.getId(), author.getId());
+    assertThat(timelineContents(reader)).containsExactly("Before friendship");
+
+    timelineService.unfollow(reader.getId(), author.getId());
+    assertThat(timelineContents(reader)).isEmpty();
+  }
+
+  @Test
+  void testTrimInboxesKeepsNewestEntries() {
+    AppUser author = saveUser("author");
+    for (int i = 0; i < 5; i++) {
+      postService.createPost(author.getUsername(), new Post("Post " + i));
+    }
+
+    timelineService.trimInboxes();
+
+    assertThat(timelineContents(author)).containsExactly("Post 4", "Post 3", "Post 2");
+  }
+
+  @Test
+  void testTrimInboxesTrimsFriendsPushedTo() {
+    AppUser author = saveUser("author");
+    AppUser reader = saveUser("reader");
+    makeFriends(author, reader);
+    for (int i = 0; i < 5; i++) {
+      postService.createPost(author.getUsername(), new Post("Post " + i));
+    }
+
+    timelineService.trimInboxes();
+
+    assertThat(timelineContents(reader)).containsExactly("Post 4", "Post 3", "Post 2");
+  }
+
+  @Test
+  void testFeedFallsBackToPostsPastTheInbox() {
+    AppUser author = saveUser("author");
+    for (int i = 0; i < 5; i++) {
+      postService.createPost(author.getUsername(), new Post("Post " + i));
+    }
+    timelineService.trimInboxes();
+
+    assertThat(postService.getFeed(author.getUsername(), null, 10).posts()).hasSize(5);
+  }
+
+  @Test
+  void testCelebrityPostsArePulledAndMerged() {
+    AppUser celebrity = saveUser("celebrity");
+    AppUser reader = saveUser("reader");
+    AppUser fan = saveUser("fan");
+    AppUser friend = saveUser("friend");
+    makeFriends(celebrity, reader);
+    makeFriends(celebrity, fan);
+    makeFriends(reader, friend);
+
+    postService.createPost(friend.getUsername(), new Post("Friend before"));
+    postService.createPost(celebrity.getUsername(), new Post("Celebrity post"));
+    postService.createPost(friend.getUsername(), new Post("Friend after"));
+
+    assertThat(timelineContents(reader)).containsExactly("Friend after", "Celebrity post",
+        "Friend before");
+    assertThat(timelineContents(fan)).containsExactly("Celebrity post");
+  }
+
+  @Test
+  void testPulledPostsStayWhenThresholdIsRaised() {
+    AppUser admin = saveUser("admin");
+    admin.setRole("ADMIN");
+    userRepository.save(admin);
+    AppUser celebrity = saveUser("celebrity");
+    AppUser reader = saveUser("reader");
+    AppUser fan = saveUser("fan");
+    makeFriends(celebrity, reader);
+    makeFriends(celebrity, fan);
+    postService.createPost(celebrity.getUsername(), new Post("Celebrity post"));
+
+    try {
+      timelineService.updateCelebrityThreshold("admin", 5);
+      assertThat(timelineContents(reader)).containsExactly("Celebrity post");
+    } finally {
+      timelineService.updateCelebrityThreshold("admin", 1);
+    }
+  }
+
+  @Test
+  void testPulledPostsReachFriendshipsMadeElsewhere() {
+    AppUser celebrity = saveUser("celebrity");
+    AppUser reader = saveUser("reader");
+    AppUser fan = saveUser("fan");
+    // saved without updating this node's friend graph, as if another node had handled it
+    for (AppUser friend : List.of(reader, fan)) {
+      celebrity.addFriend(friend);
+      friend.addFriend(celebrity);
+    }
+    userRepository.save(celebrity);
+
+    postService.createPost(celebrity.getUsername(), new Post("Celebrity post"));
+
+    assertThat(timelineContents(reader)).containsExactly("Celebrity post");
+    assertThat(timelineContents(fan)).containsExactly("Celebrity post");
+  }
+
+  @Test
+  void testUpdateCelebrityThreshold() {
+    AppUser admin = saveUser("admin");
+    admin.setRole("ADMIN");
+    userRepository.save(admin);
+
+    TimelineStats stats = timelineService.updateCelebrityThreshold("admin", 5);
+
+    assertThat(stats.celebrityThreshold()).isEqualTo(5);
+    assertThat(timelineService.getStats("admin").celebrityThreshold()).isEqualTo(5);
+    timelineService.updateCelebrityThreshold("admin", 1);
+  }
+
+  @Test
+  void testUpdateCelebrityThresholdNotAdmin() {
+    saveUser("reader");
+
+    assertThrows(SecurityException.class,
+        () -> timelineService.updateCelebrityThreshold("reader", 5));
+  }
+
+  @Test
+  void testUpdateCelebrityThresholdNegative() {
+    AppUser admin = saveUser("admin");
+    admin.setRole("ADMIN");
+    userRepository.save(admin);
+
+    assertThrows(IllegalArgumentException.class,
+        () -> timelineService.updateCelebrityThreshold("admin", -1));
+  }
+}
@@ -0,0 +1,119 @@
+package com.project.backend.service.implementation.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.backend.model.AppUser;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserListing;
+import com.project.backend.model.UserPage;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.service.implementation.AppAuthorizationServiceImpl;
+import com.project.backend.service.implementation.UserServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Counts the statements the user listings send to the database. Every user has friends and
+ * interests, so a listing that loaded the entities would issue a query per user.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@Transactional
+public class UserListingQueryCountTest {
+  private static final int USERS = 5;
+
+  @Autowired
+  private UserServiceImpl userService;
+
+  @Autowired
+  private AppAuthorizationServiceImpl appAuthorizationService;
+
+  @Autowired
+  private UserRepository repository;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setup() {
+    AppUser admin = new AppUser("listingAdmin", "listingAdmin@dal.ca", "password", "ADMIN",
+        "What is the name of your first pet?", "Leo");
+    repository.save(admin);
+
+    for (int i = 0; i < USERS; i++) {
+      AppUser user = new AppUser("listing" + i, "listing" + i + "@dal.ca", "password", "USER",
+          "What is the name of your first pet?", "Leo");
+      user.setInterests(Set.of("sports", "music"));
+      user.addFriend(admin);
+      admin.addFriend(user);
+      repository.save(user);
+
+      AppUser pending = new AppUser("listingPending" + i, "listingPending" + i + "@dal.ca",
+          "password", "USER", "What is the name of your first pet?", "Leo");
+      pending.setPendingRequest(true);
+      repository.save(pending);
+    }
+    repository.save(admin);
+
+    entityManager.flush();
+    entityManager.clear();
+    statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  @Test
+  public void testGetAllUsersIssuesPageAndCountQueries() {
+    statistics.clear();
+
+    UserPage page = userService.getAllUsers(0, 100, "username");
+    assertThat(page.users()).extracting(UserListing::username)
+        .contains("listingAdmin", "listing0").doesNotContain("listingPending0");
+    assertEquals(page.users().size(), page.total());
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testGetFriendsIssuesOneQuery() {
+    userService.getFriends("listingAdmin");
+    statistics.clear();
+
+    assertThat(userService.getFriends("listingAdmin")).hasSize(USERS);
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testSearchAndInterestsIssueOneQueryEach() {
+    statistics.clear();
+    assertThat(userService.searchUsers("listing", 50)).extracting(UserCard::username)
+        .contains("listing0", "listing4");
+    assertEquals(1, statistics.getPrepareStatementCount());
+
+    statistics.clear();
+    assertThat(userService.getUserByInterests(Set.of("sports"))).hasSizeGreaterThanOrEqualTo(USERS);
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  public void testGetPendingRequestsIssuesPageAndCountQueries() {
+    appAuthorizationService.getPendingRequests("listingAdmin", 0, 100);
+    statistics.clear();
+
+    assertThat(appAuthorizationService.getPendingRequests("listingAdmin", 0, 100).users())
+        .hasSize(USERS);
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+}
@@ -20,7 +20,12 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.backend.model.AppUser;
+import com.project.backend.model.Post;
+import com.project.backend.model.UserCard;
+import com.project.backend.model.UserListing;
+import com.project.backend.repository.PostRepository;
 import com.project.backend.repository.UserRepository;
+import com.project.backend.service.implementation.PostServiceImplementation;
 import com.project.backend.service.implementation.UserServiceImpl;
 
 @SpringBootTest
@@ -36,6 +41,12 @@ public class UserServiceImplTest {
   @Autowired
   private UserRepository repository;
 
+  @Autowired
+  private PostServiceImplementation postService;
+
+  @Autowired
+  private PostRepository postRepository;
+
   @Test
   void testCreateUser() {
     AppUser user = new AppUser("root", "root@dal.ca",
@@ -148,6 +159,38 @@ public class UserServiceImplTest {
         .isEqualTo(ResponseEntity.ok().body("User deleted"));
   }
 
+  @Test
+  void testDeleteUserRemovesFriendshipsRequestsAndPosts() {
+    AppUser user = new AppUser("leaving", "leaving@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    AppUser friend = new AppUser("staying", "staying@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    AppUser requester = new AppUser("requester", "requester@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    repository.save(user);
+    repository.save(friend);
+    repository.save(requester);
+    user.addFriend(friend);
+    friend.addFriend(user);
+    user.addFriendRequest(requester);
+    requester.addFriendRequest(user);
+    repository.save(user);
+    repository.save(friend);
+    repository.save(requester);
+    Long postId = postService.createPost("leaving", new Post("Goodbye")).getId();
+    Long friendPostId = postService.createPost("staying", new Post("Still here")).getId();
+
+    assertThat(userService.deleteUser(user.getId()))
+        .isEqualTo(ResponseEntity.ok().body("User deleted"));
+    repository.flush();
+
+    assertThat(repository.findById(user.getId())).isEmpty();
+    assertThat(repository.findFriendIds(friend.getId())).isEmpty();
+    assertThat(repository.findById(requester.getId())).isPresent();
+    assertThat(postRepository.findById(postId)).isEmpty();
+    assertThat(postRepository.findById(friendPostId)).isPresent();
+  }
+
   @Test
   void testUpdateUserRole() {
     AppUser user = new AppUser("root", "root@dal.ca",
@@ -180,7 +223,7 @@ public class UserServiceImplTest {
     userService.createUser(user);
     user.setPendingRequest(false);
     repository.save(user);
-    assertThat(userService.getAllUsers().size()).isEqualTo(1);
+    assertThat(userService.getAllUsers(0, 20, "id").users().size()).isEqualTo(1);
   }
 
   @Test
@@ -197,7 +240,31 @@ public class UserServiceImplTest {
     user2.setPendingRequest(false);
     repository.save(user1);
     repository.save(user2);
-    assertThat(userService.getAllUsers().size()).isEqualTo(2);
+    assertThat(userService.getAllUsers(0, 20, "id").users().size()).isEqualTo(2);
+  }
+
+  @Test
+  void testGetAllUsersPagesAndSorts() {
+    for (String username : List.of("carol", "alice", "bob")) {
+      repository.save(new AppUser(username, username + "@dal.ca", "password", "USER",
+          "What is the name of your first pet?", "Leo"));
+    }
+    AppUser pending = new AppUser("aaron", "aaron@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    pending.setPendingRequest(true);
+    repository.save(pending);
+
+    assertThat(userService.getAllUsers(0, 2, "username").users()).extracting(UserListing::username)
+        .containsExactly("alice", "bob");
+    assertThat(userService.getAllUsers(0, 2, "username").total()).isEqualTo(3);
+    assertThat(userService.getAllUsers(1, 2, "username").users()).extracting(UserListing::username)
+        .containsExactly("carol");
+    assertThat(userService.getAllUsers(0, 1, "username,desc").users())
+        .extracting(UserListing::username).containsExactly("carol");
+    assertThat(userService.getAllUsers(-1, 1000, "id").size()).isEqualTo(100);
+    assertThrows(IllegalArgumentException.class, () -> userService.getAllUsers(0, 20, "password"));
+    assertThrows(IllegalArgumentException.class,
+        () -> userService.getAllUsers(0, 20, "username,sideways"));
   }
 
   @Test
@@ -468,9 +535,9 @@ public class UserServiceImplTest {
     repository.save(user);
     repository.save(friend);
 
-    Set<AppUser> friends = userService.getFriends("user");
+    List<UserCard> friends = userService.getFriends("user");
 
-    assertThat(friends).containsExactly(friend);
+    assertThat(friends).containsExactly(new UserCard(friend.getId(), "friend", null));
   }
 
   @Test
@@ -551,9 +618,9 @@ public class UserServiceImplTest {
 
     Set<String> interests = new HashSet<>(Arrays.asList("sports"));
 
-    List<AppUser> users = userService.getUserByInterests(interests);
+    List<UserCard> users = userService.getUserByInterests(interests);
 
-    assertThat(users).containsExactlyInAnyOrder(user1, user2);
+    assertThat(users).extracting(UserCard::username).containsExactlyInAnyOrder("user1", "user2");
   }
 
   @Test
@@ -571,11 +638,23 @@ public class UserServiceImplTest {
 
     Set<String> interests = new HashSet<>(Arrays.asList("gaming"));
 
-    List<AppUser> users = userService.getUserByInterests(interests);
+    List<UserCard> users = userService.getUserByInterests(interests);
 
     assertThat(users).isEmpty();
   }
 
+  @Test
+  void testGetUserByNoInterests() {
+    AppUser user1 = new AppUser("user1", "user1@dal.ca",
+        "password", "admin",
+        "What is the name of your first pet?", "Leo");
+    user1.setInterests(new HashSet<>(Arrays.asList("technology", "sports")));
+    repository.save(user1);
+
+    assertThat(userService.getUserByInterests(Set.of())).isEmpty();
+    assertThat(userService.queryInterests(Set.of(), Set.of(), Set.of("music"), 10)).isEmpty();
+  }
+
   @Test
   void testGetUserByMultipleInterests() {
     AppUser user1 = new AppUser("user1", "user1@dal.ca",
@@ -591,9 +670,9 @@ public class UserServiceImplTest {
 
     Set<String> interests = new HashSet<>(Arrays.asList("sports", "technology"));
 
-    List<AppUser> users = userService.getUserByInterests(interests);
+    List<UserCard> users = userService.getUserByInterests(interests);
 
-    assertThat(users).containsExactlyInAnyOrder(user1, user2);
+    assertThat(users).extracting(UserCard::username).containsExactlyInAnyOrder("user1", "user2");
   }
 
   @Test
@@ -609,9 +688,9 @@ public class UserServiceImplTest {
     repository.save(user2);
     String query = "user1";
 
-    List<AppUser> users = userService.searchUsers(query);
+    List<UserCard> users = userService.searchUsers(query);
 
-    assertThat(users).containsExactly(user1);
+    assertThat(users).extracting(UserCard::username).containsExactly("user1");
   }
 
   @Test
@@ -627,7 +706,7 @@ public class UserServiceImplTest {
 
     String query = "does not exist";
 
-    List<AppUser> users = userService.searchUsers(query);
+    List<UserCard> users = userService.searchUsers(query);
 
     assertThat(users).isEmpty();
   }
@@ -646,8 +725,65 @@ public class UserServiceImplTest {
 
     String query = "USER2";
 
-    List<AppUser> users = userService.searchUsers(query);
+    List<UserCard> users = userService.searchUsers(query);
+
+    assertThat(users).extracting(UserCard::username).containsExactly("user2");
+  }
+
+  @Test
+  void testSearchUsersRanksAndLimits() {
+    repository.save(new AppUser("annabelle", "annabelle@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo"));
+    repository.save(new AppUser("hannah", "hannah@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo"));
+    repository.save(new AppUser("ann", "ann@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo"));
+
+    assertThat(userService.searchUsers("ANN", 10)).extracting(UserCard::username)
+        .containsExactly("ann", "annabelle", "hannah");
+    assertThat(userService.suggestUsernames("anna", 10)).containsExactly("annabelle", "hannah");
+    assertThat(userService.suggestUsernames("an", 1)).containsExactly("ann");
+  }
+
+  @Test
+  void testSearchUsersSkipsPendingUsers() {
+    AppUser pending = new AppUser("pendingUser", "pending@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    pending.setPendingRequest(true);
+    repository.save(pending);
+    assertThat(userService.suggestUsernames("pendingUser", 10)).isEmpty();
+
+    pending.setPendingRequest(false);
+    repository.saveAndFlush(pending);
+    assertThat(userService.suggestUsernames("pendingUser", 10)).containsExactly("pendingUser");
+
+    repository.delete(pending);
+    repository.flush();
+    assertThat(userService.suggestUsernames("pendingUser", 10)).isEmpty();
+  }
+
+  @Test
+  void testQueryAndCountInterests() {
+    AppUser user1 = new AppUser("user1", "user1@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    user1.setInterests(new HashSet<>(Arrays.asList("technology", "sports")));
+    AppUser user2 = new AppUser("user2", "user2@dal.ca", "password", "USER",
+        "What is the name of your first pet?", "Leo");
+    user2.setInterests(new HashSet<>(Arrays.asList("music", "sports")));
+    repository.save(user1);
+    repository.save(user2);
+
+    assertThat(userService.queryInterests(Set.of("sports"), Set.of(), Set.of("music"), 10))
+        .extracting(UserCard::username).containsExactly("user1");
+    assertThat(userService.countByInterests(Set.of(), Set.of("technology", "music"), Set.of()))
+        .isEqualTo(2);
+
+    AppUser update = new AppUser();
+    update.setInterests(new HashSet<>(Arrays.asList("music")));
+    userService.updateUser("user1", update);
 
-    assertThat(users).containsExactly(user2);
+    assertThat(userService.countByInterests(Set.of("music"), Set.of(), Set.of())).isEqualTo(2);
+    assertThat(userService.getInterestCounts()).containsEntry("music", 2)
+        .doesNotContainKey("technology");
   }
 }
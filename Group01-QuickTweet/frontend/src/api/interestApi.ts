@@ -24,12 +24,22 @@ export const getUsersWithInterest = async (interest: string | undefined) => {
 };
 
 export const countUsersWithInterest = async (interest: string | undefined) => {
+    const token = sessionStorage.getItem("jwt");
     if (interest === undefined) {
         return;
     }
     try{
-        const usersWithInterest = await getUsersWithInterest(interest);
-        return usersWithInterest.length;
+        const count = await axios.get(
+            `${import.meta.env.VITE_API_URL}/users/interests/count`,
+            {
+                params: { all: interest },
+                headers: {
+                    "Content-Type": "application/json",
+                    Authorization: token,
+                },
+            }
+        );
+        return count.data as number;
     } catch (err) {
         console.error(err);
     }
@@ -1,5 +1,5 @@
 import axios from "axios";
-import { User } from "../types";
+import { FeedPage, Post, User } from "../types";
 
 export const fetchPosts = async (user: User) => {
   const token = sessionStorage.getItem("jwt");
@@ -19,6 +19,49 @@ export const fetchPosts = async (user: User) => {
   }
 };
 
+export const fetchFeedPage = async (
+  user: User,
+  cursor: string | undefined,
+  size: number
+): Promise<FeedPage | undefined> => {
+  const token = sessionStorage.getItem("jwt");
+  try {
+    const res = await axios.get(`${import.meta.env.VITE_API_URL}/posts/${user.username}/feed`, {
+      params: { cursor: cursor, size: size },
+      headers: {
+        "Content-Type": "application/json",
+        Authorization: token,
+      },
+    });
+    return res.data as FeedPage;
+  } catch (err) {
+    console.error(err);
+  }
+};
+
+export const searchPosts = async (
+  user: User,
+  query: string,
+  author: string,
+  interest: string,
+  limit: number
+): Promise<Post[]> => {
+  const token = sessionStorage.getItem("jwt");
+  try {
+    const res = await axios.get(`${import.meta.env.VITE_API_URL}/posts/${user.username}/search`, {
+      params: { q: query, user: author, interest: interest, limit: limit },
+      headers: {
+        "Content-Type": "application/json",
+        Authorization: token,
+      },
+    });
+    return res.data as Post[];
+  } catch (err) {
+    console.error(err);
+    return [];
+  }
+};
+
 export const createPost = async (user: User, content: string) => {
   const token = sessionStorage.getItem("jwt");
   try {
@@ -1,15 +1,16 @@
 import axios from "axios";
-import { User, UserData } from "../types";
+import { FriendRecommendation, RequestDecision, User, UserData, UserPage } from "../types";
 
-export const getAllUsers = async (): Promise<User[]> => {
+export const getAllUsers = async (page: number, size: number): Promise<UserPage> => {
   const token = sessionStorage.getItem("jwt");
   const response = await axios.get(`${import.meta.env.VITE_API_URL}/users`, {
     headers: {
       "Content-Type": "application/json",
       Authorization: token,
     },
+    params: { page: page, size: size, sort: "username" },
   });
-  return response.data as User[];
+  return response.data as UserPage;
 };
 
 export const getUserData = async (username: string | undefined) => {
@@ -157,12 +158,17 @@ export const createUserRequest = async (user: any) => {
   return res.data;
 };
 
-export const getPendingRequests = async (username: string): Promise<User[]> => {
+export const getPendingRequests = async (
+  username: string,
+  page: number,
+  size: number
+): Promise<UserPage> => {
   const token = sessionStorage.getItem("jwt");
   const res = await axios.get(`${import.meta.env.VITE_API_URL}/admin/requests/${username}`, {
     headers: { "Content-Type": "application/json", Authorization: token },
+    params: { page, size },
   });
-  return res.data as User[];
+  return res.data as UserPage;
 };
 
 export const deleteUserAccount = async (id: number): Promise<User> => {
@@ -240,3 +246,60 @@ export const searchUsers = async (query: string): Promise<User[]> => {
     return [];
   }
 };
+
+export const suggestUsernames = async (query: string): Promise<string[]> => {
+  const token = sessionStorage.getItem("jwt");
+  try {
+    const response = await axios.get(`${import.meta.env.VITE_API_URL}/users/typeahead`, {
+      params: { query: query },
+      headers: {
+        "Content-Type": "application/json",
+        Authorization: token,
+      },
+    });
+    return response.data;
+  } catch (error) {
+    console.error("Error searching users:", error);
+    return [];
+  }
+};
+
+export const getRecommendations = async (
+  username: string | undefined,
+  limit: number
+): Promise<FriendRecommendation[]> => {
+  const token = sessionStorage.getItem("jwt");
+  try {
+    const response = await axios.get(
+      `${import.meta.env.VITE_API_URL}/users/${username}/recommendations`,
+      {
+        params: { limit: limit },
+        headers: {
+          "Content-Type": "application/json",
+          Authorization: token,
+        },
+      }
+    );
+    return response.data as FriendRecommendation[];
+  } catch (error) {
+    console.error("Error fetching recommendations:", error);
+    return [];
+  }
+};
+
+export const decideUserRequests = async (
+  username: string,
+  approve: string[],
+  reject: string[]
+): Promise<RequestDecision[]> => {
+  const token = sessionStorage.getItem("jwt");
+  const res = await axios.post(
+    `${import.meta.env.VITE_API_URL}/admin/requests/${username}/decisions`,
+    { approve, reject },
+    {
+      headers: { "Content-Type": "application/json", Authorization: token },
+    }
+  );
+
+  return res.data as RequestDecision[];
+};
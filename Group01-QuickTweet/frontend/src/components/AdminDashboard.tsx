@@ -7,6 +7,7 @@ import Nav from "./Nav";
 import {
   acceptUserRequest,
   changeUserRole,
+  decideUserRequests,
   deleteUserAccount,
   getAllUsers,
   getPendingRequests,
@@ -38,6 +39,7 @@ const AdminDashboard = ({
 }) => {
   const [currentPage, setCurrentPage] = useState(1);
   const [users, setUsers] = useState<User[]>([]);
+  const [itemTotal, setItemTotal] = useState(0);
   const [pendingRequests, setPendingRequests] = useState<User[]>([]);
   const [pending, setPending] = useState(true);
   const [loading, setLoading] = useState(true);
@@ -45,18 +47,26 @@ const AdminDashboard = ({
   const [show, setShow] = useState(false);
 
   useEffect(() => {
-    const fetchUsers = async () => {
+    setLoading(true);
+  }, [pending, currentPage]);
+
+  // both lists are paged by the server, only the current page of the active tab is held here
+  useEffect(() => {
+    const fetchPage = async () => {
       if (!user.username) {
         return;
       }
 
-      setLoading(true);
       try {
-        const data = await getAllUsers();
-        setUsers(data.filter(u => u.username != user.username));
-
-        const requests = await getPendingRequests(user.username);
-        setPendingRequests(requests);
+        if (pending) {
+          const page = await getPendingRequests(user.username, currentPage - 1, 5);
+          setPendingRequests(page.users);
+          setItemTotal(page.total);
+        } else {
+          const page = await getAllUsers(currentPage - 1, 5);
+          setUsers(page.users.filter(u => u.username != user.username));
+          setItemTotal(page.total);
+        }
       } catch (err: any) {
         setError(err.request.responseText);
       }
@@ -65,24 +75,13 @@ const AdminDashboard = ({
     };
 
     if (loading) {
-      fetchUsers();
+      fetchPage();
     }
   }, [user.username, loading]);
 
-  const totalItems = () => {
-    if (pending) {
-      return Math.ceil(pendingRequests.length / 5);
-    } else {
-      return Math.ceil(users.length / 5);
-    }
-  };
-
-  const startIndex = (currentPage - 1) * 5;
-  const endIndexUsers = Math.min(startIndex + 5, users.length);
-  const endIndexRequests = Math.min(startIndex + 5, pendingRequests.length);
-  const currentUsers = users.slice(startIndex, endIndexUsers);
-  const currentRequests = pendingRequests.slice(startIndex, endIndexRequests);
-  const totalPages = totalItems();
+  const currentUsers = users;
+  const currentRequests = pendingRequests;
+  const totalPages = Math.ceil(itemTotal / 5);
 
   const paginationItems = [];
   for (let i = 1; i <= totalPages; i++) {
@@ -149,6 +148,25 @@ const AdminDashboard = ({
     }
   };
 
+  const handleDecidePage = async (approve: boolean) => {
+    const usernames = currentRequests.map(request => request.username);
+    if (!user.username || usernames.length == 0) {
+      return;
+    }
+
+    try {
+      const res = await decideUserRequests(
+        user.username,
+        approve ? usernames : [],
+        approve ? [] : usernames
+      );
+      setLoading(true);
+      console.log(res);
+    } catch (err: any) {
+      setError(err.request.responseText);
+    }
+  };
+
   const paginationStyle = {
     marginTop: "5%",
   };
@@ -166,7 +184,10 @@ const AdminDashboard = ({
               id='pending'
               label='Pending Requests'
               defaultChecked={pending}
-              onClick={() => setPending(!pending)}
+              onClick={() => {
+                setPending(!pending);
+                setCurrentPage(1);
+              }}
             />
           </Form>
           {loading ? (
@@ -174,6 +195,20 @@ const AdminDashboard = ({
           ) : pending ? (
             <>
               <h1 className='display-4 mb-5'>Pending Requests</h1>
+              {currentRequests.length > 0 && (
+                <div className='mb-3'>
+                  <Button
+                    variant='primary'
+                    className='me-3'
+                    onClick={() => handleDecidePage(true)}
+                  >
+                    Accept All
+                  </Button>
+                  <Button variant='danger' onClick={() => handleDecidePage(false)}>
+                    Reject All
+                  </Button>
+                </div>
+              )}
               <Card>
                 <ListGroup variant='flush'>
                   {currentRequests.map((user, i) => (
@@ -200,7 +235,7 @@ const AdminDashboard = ({
                   ))}
                 </ListGroup>
               </Card>
-              {pendingRequests.length > 0 && (
+              {itemTotal > 0 && (
                 <Pagination className='justify-content-center' style={paginationStyle}>
                   <Pagination.First onClick={() => setCurrentPage(1)} />
                   <Pagination.Prev
@@ -252,7 +287,7 @@ const AdminDashboard = ({
                   ))}
                 </ListGroup>
               </Card>
-              {users.length > 0 && (
+              {itemTotal > 0 && (
                 <Pagination className='justify-content-center' style={paginationStyle}>
                   <Pagination.First onClick={() => setCurrentPage(1)} />
                   <Pagination.Prev
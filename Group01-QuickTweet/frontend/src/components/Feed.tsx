@@ -3,7 +3,7 @@ import { FontAwesomeIcon } from "@fortawesome/react-fontawesome";
 import { useEffect, useState } from "react";
 import { Button, Col, Container, Row, Spinner } from "react-bootstrap";
 import Pagination from "react-bootstrap/Pagination";
-import { fetchPosts } from "../api/postApi";
+import { fetchFeedPage } from "../api/postApi";
 import { FeedProps, Post as PostInterface } from "../types";
 import Footer from "./Footer";
 import Nav from "./Nav";
@@ -12,10 +12,13 @@ import PostForm from "./PostForm";
 import Filters from "./Filters";
 import FriendRecommendations from "./RecommendFriends";
 
+const PAGE_SIZE = 5;
+
 /**
  * Feed component that displays posts and allows users to create new posts.
  * It fetches posts asynchronously when the component mounts or when the `user` prop changes.
- * It supports pagination, displaying a fixed number of posts per page and generating pagination controls dynamically.
+ * It supports cursor pagination: each page is requested from the server separately, and the cursors of the pages
+ * already visited are kept so the user can step back through them.
  * A modal can be toggled to display or hide additional UI elements, such as a form for creating a new post.
  *
  * @component
@@ -25,18 +28,21 @@ import FriendRecommendations from "./RecommendFriends";
  * @returns {React.ReactElement} The Feed component.
  */
 const Feed = ({ user, setAuth }: FeedProps): React.ReactElement => {
+  // cursors[i] is the cursor used to request page i + 1, the first page has no cursor
+  const [cursors, setCursors] = useState<(string | undefined)[]>([undefined]);
   const [currentPage, setCurrentPage] = useState(1);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [modal, setModal] = useState(false);
   const [showDropdown, setShowDropdown] = useState(false);
   const [posts, setPosts] = useState<PostInterface[]>([]);
   const [loading, setLoading] = useState(true);
-  const totalPages = Math.ceil(posts.length / 5);
 
   useEffect(() => {
     const fetchData = async () => {
       setLoading(true);
-      const data = await fetchPosts(user);
-      setPosts(data);
+      const data = await fetchFeedPage(user, cursors[currentPage - 1], PAGE_SIZE);
+      setPosts(data ? data.posts : []);
+      setNextCursor(data ? data.nextCursor : null);
       setLoading(false);
     };
 
@@ -45,22 +51,29 @@ const Feed = ({ user, setAuth }: FeedProps): React.ReactElement => {
     }
   }, [user.username, loading]);
 
+  const goToPage = (page: number) => {
+    setCurrentPage(page);
+    setLoading(true);
+  };
+
   const toggleDropdown = () => {
     setShowDropdown(prev => !prev);
   };
 
-  // calculate starting and ending index of current page (assuming posts are inserted as an array)
-  const startIndex = (currentPage - 1) * 5;
-  const endIndex = Math.min(startIndex + 5, posts.length);
+  const goToNextPage = () => {
+    if (nextCursor === null) {
+      return;
+    }
 
-  // use these indices to determine which posts exist in currently visited page
-  const currentPosts = posts.slice(startIndex, endIndex);
+    setCursors(prev => [...prev.slice(0, currentPage), nextCursor]);
+    goToPage(currentPage + 1);
+  };
 
-  // generate a new page 'button' for each new page
+  // generate a page 'button' for each page visited so far
   const paginationItems = [];
-  for (let i = 1; i <= totalPages; i++) {
+  for (let i = 1; i <= cursors.length; i++) {
     paginationItems.push(
-      <Pagination.Item key={i} active={i === currentPage} onClick={() => setCurrentPage(i)}>
+      <Pagination.Item key={i} active={i === currentPage} onClick={() => goToPage(i)}>
         {i}
       </Pagination.Item>
     );
@@ -96,33 +109,21 @@ const Feed = ({ user, setAuth }: FeedProps): React.ReactElement => {
                   <Button onClick={toggleDropdown}>
                     <FontAwesomeIcon icon={faFilter} />
                   </Button>
-                  {showDropdown && <Filters posts={posts} setPosts={setPosts}></Filters>}
+                  {showDropdown && <Filters user={user} setPosts={setPosts}></Filters>}
                 </Col>
               </Row>
               <PostForm modal={modal} setModal={setModal} user={user} setLoading={setLoading} />
-              {currentPosts.map((post, i) => (
+              {posts.map((post, i) => (
                 <Post post={post} key={i} />
               ))}
               {posts.length > 0 && (
                 <Pagination className='justify-content-center' style={paginationStyle}>
-                  <Pagination.First onClick={() => setCurrentPage(1)} />
+                  <Pagination.First onClick={() => goToPage(1)} />
                   <Pagination.Prev
-                    onClick={() =>
-                      currentPage != 1 ? setCurrentPage(currentPage - 1) : setCurrentPage(1)
-                    }
-                  />
-                  {paginationItems.slice(
-                    currentPage > 3 ? currentPage - 3 : 0,
-                    currentPage < totalPages - 3 ? currentPage + 2 : totalPages
-                  )}
-                  <Pagination.Next
-                    onClick={() =>
-                      currentPage != totalPages
-                        ? setCurrentPage(currentPage + 1)
-                        : setCurrentPage(totalPages)
-                    }
+                    onClick={() => (currentPage != 1 ? goToPage(currentPage - 1) : goToPage(1))}
                   />
-                  <Pagination.Last onClick={() => setCurrentPage(totalPages)} />
+                  {paginationItems.slice(currentPage > 3 ? currentPage - 3 : 0, currentPage + 2)}
+                  <Pagination.Next disabled={nextCursor === null} onClick={goToNextPage} />
                 </Pagination>
               )}
             </>
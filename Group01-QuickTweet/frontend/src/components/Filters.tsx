@@ -1,45 +1,25 @@
-import { Dispatch, SetStateAction, useRef, useState } from "react";
+import { Dispatch, SetStateAction, useState } from "react";
+import { searchPosts } from "../api/postApi";
 import { FilterProps, Post as PostInterface } from "../types";
 
-function useInitialValue(value: PostInterface[]): PostInterface[] {
-  const initialValueRef = useRef<PostInterface[]>(value);
+const SEARCH_LIMIT = 20;
 
-  // Return the stored initial value
-  return initialValueRef.current;
-}
-
-const Filters = ({ posts, setPosts }: FilterProps): React.ReactElement => {
+const Filters = ({ user, setPosts }: FilterProps): React.ReactElement => {
   const [textInp, setText] = useState("");
   const [userInp, setUser] = useState("");
   const [interestInp, setInterest] = useState("");
-  const initialPosts = useInitialValue(posts);
 
-  const filter = (
+  const filter = async (
     e: React.FormEvent<HTMLFormElement>,
     text: string,
-    user: string,
+    author: string,
     interestSearch: string,
     setPosts: Dispatch<SetStateAction<PostInterface[]>>
   ) => {
     e.preventDefault();
 
-    // partial search for posts using the specified content string, username and/or interests
-    let postTemp: PostInterface[];
-    postTemp = initialPosts.filter(post => post.content.toLowerCase().includes(text.toLowerCase()));
-    postTemp = postTemp.filter(post => {
-      if (post.user.username == undefined) {
-        return false;
-      }
-
-      return post.user.username.toLowerCase().includes(user.toLowerCase());
-    });
-    postTemp = postTemp.filter(post =>
-      post.user.interests?.some(interest =>
-        interest.toLowerCase().includes(interestSearch.toLowerCase())
-      )
-    );
-
-    setPosts(postTemp);
+    // the server searches the whole feed by content, author username and author interests
+    setPosts(await searchPosts(user, text, author, interestSearch, SEARCH_LIMIT));
   };
 
   return (
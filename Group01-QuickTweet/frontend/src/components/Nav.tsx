@@ -8,7 +8,7 @@ import Image from "react-bootstrap/Image";
 import Navbar from "react-bootstrap/Navbar";
 import { Link, useNavigate } from "react-router-dom";
 import { updateStatus } from "../api/auth";
-import { addFriend, getFriendRequests, searchUsers } from "../api/userApi";
+import { addFriend, getFriendRequests, suggestUsernames } from "../api/userApi";
 import { INTERESTS } from "../constants";
 import { NavBarProps, SearchResult, User } from "../types";
 import AsyncSelect from "react-select/async";
@@ -52,14 +52,14 @@ const Nav = ({ username, setAuth, isAdmin }: NavBarProps) => {
       return;
     }
 
-    const results = await searchUsers(query);
+    const usernames = await suggestUsernames(query);
 
     // map the results to the format expected by the search component
     // each element should have a value and a path to the element's page
-    let combinedResults = results.map(user => ({
-      value: user.username || "",
-      label: user.username || "",
-      path: `/profile/${user.username}`,
+    let combinedResults = usernames.map(username => ({
+      value: username,
+      label: username,
+      path: `/profile/${username}`,
     }));
     combinedResults = combinedResults.concat(
       INTERESTS.filter(interest => interest.value.toLowerCase().includes(query.toLowerCase())).map(
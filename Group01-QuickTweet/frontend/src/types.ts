@@ -48,6 +48,36 @@ export interface Post {
   user: User;
 }
 
+export interface RecommendedUser {
+  id: number;
+  username: string;
+  photo: string | undefined;
+}
+
+export interface FriendRecommendation {
+  user: RecommendedUser;
+  mutualFriends: number;
+  sharedInterests: number;
+  score: number;
+}
+
+export interface UserPage {
+  users: User[];
+  page: number;
+  size: number;
+  total: number;
+}
+
+export interface RequestDecision {
+  username: string;
+  outcome: "APPROVED" | "REJECTED" | "ALREADY_HANDLED" | "NOT_FOUND";
+}
+
+export interface FeedPage {
+  posts: Post[];
+  nextCursor: string | null;
+}
+
 export interface Group {
   id: number;
   name: string;
@@ -94,7 +124,7 @@ export interface PostFormProps {
 }
 
 export interface FilterProps {
-  posts: Post[]; 
+  user: User;
   setPosts: Dispatch<SetStateAction<Post[]>>;
 }
 